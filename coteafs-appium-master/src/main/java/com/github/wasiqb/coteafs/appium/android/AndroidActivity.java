@@ -61,6 +61,6 @@ public abstract class AndroidActivity extends DeviceActivity <AndroidDriver <Mob
 	public AndroidDeviceElementActions onElement (final String name) {
 		final String msg = "Preparing to perform actions on Android device element [%s]...";
 		log.trace (String.format (msg, name));
-		return new AndroidDeviceElementActions (this.device, name, getElement (name));
+		return prepareActions (name, e -> new AndroidDeviceElementActions (this.device, name, e));
 	}
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ package com.github.wasiqb.coteafs.appium.android;
 
 import com.github.wasiqb.coteafs.appium.device.Device;
 import com.github.wasiqb.coteafs.appium.service.AppiumServer;
+import com.github.wasiqb.coteafs.appium.service.AppiumServerPool;
 
 import io.appium.java_client.MobileElement;
 import io.appium.java_client.android.AndroidDriver;
@@ -35,4 +36,14 @@ public class AndroidDevice extends Device <AndroidDriver <MobileElement>> {
 	public AndroidDevice (final AppiumServer server, final String name) {
 		super (server, name);
 	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:31:32 AM
+	 * @param serverPool
+	 * @param name
+	 */
+	public AndroidDevice (final AppiumServerPool serverPool, final String name) {
+		super (serverPool, name);
+	}
 }
\ No newline at end of file
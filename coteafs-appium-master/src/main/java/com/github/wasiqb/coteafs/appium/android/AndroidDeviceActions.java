@@ -30,6 +30,8 @@ import org.openqa.selenium.TimeoutException;
 import com.github.wasiqb.coteafs.appium.android.system.AlertActivity;
 import com.github.wasiqb.coteafs.appium.android.system.PermissionActivity;
 import com.github.wasiqb.coteafs.appium.device.DeviceActions;
+import com.github.wasiqb.coteafs.appium.device.DeviceActivity;
+import com.github.wasiqb.coteafs.appium.device.ElementTarget;
 import com.github.wasiqb.coteafs.appium.error.AppiumServerStoppedError;
 
 import io.appium.java_client.MobileElement;
@@ -68,52 +70,28 @@ public class AndroidDeviceActions extends DeviceActions <AndroidDriver <MobileEl
 	/**
 	 * @author wasiq.bhamla
 	 * @since Feb 8, 2018 4:01:35 PM
+	 * @param otherwise
+	 *            elements displayed when no alert pops up, if given wait ends as soon as either alert or any of
+	 *            them is displayed
 	 * @return message
 	 */
-	public String handleAlert () {
-		return getValue ("Handling Android Alert pop-up...", d -> {
-			final String msg = "Alert Text: %s";
-			try {
-				final AlertActivity perm = new AlertActivity (this.device);
-				final String description = perm.onElement ("Message")
-					.text ();
-				log.trace (String.format (msg, description));
-				perm.onElement ("OK")
-					.tap ();
-				return description;
-			}
-			catch (final TimeoutException e) {
-				log.warn ("Expected Alert not displayed...");
-				log.warn (e.getMessage ());
-			}
-			return null;
-		});
+	public String handleAlert (final ElementTarget... otherwise) {
+		return getValue ("Handling Android Alert pop-up...",
+				d -> dismiss (new AlertActivity (this.device), "OK", otherwise));
 	}
 
 	/**
 	 * @author wasiq.bhamla
 	 * @since 09-May-2017 9:14:16 PM
 	 * @param buttonText
+	 * @param otherwise
+	 *            elements displayed when no alert pops up, if given wait ends as soon as either alert or any of
+	 *            them is displayed
 	 * @return message
 	 */
-	public String handlePermissionAlert (final String buttonText) {
-		return getValue ("Handling Android Permission Alert pop-up...", d -> {
-			final String msg = "Alert Text: %s";
-			try {
-				final PermissionActivity perm = new PermissionActivity (this.device);
-				final String description = perm.onElement ("Message")
-					.text ();
-				log.trace (String.format (msg, description));
-				perm.onElement (buttonText)
-					.tap ();
-				return description;
-			}
-			catch (final TimeoutException e) {
-				log.warn ("Expected Alert not displayed...");
-				log.warn (e.getMessage ());
-			}
-			return null;
-		});
+	public String handlePermissionAlert (final String buttonText, final ElementTarget... otherwise) {
+		return getValue ("Handling Android Permission Alert pop-up...",
+				d -> dismiss (new PermissionActivity (this.device), buttonText, otherwise));
 	}
 
 	/**
@@ -139,6 +117,7 @@ public class AndroidDeviceActions extends DeviceActions <AndroidDriver <MobileEl
 	 */
 	public void pressBack () {
 		perform ("Pressing Back button on Android device...", d -> d.pressKeyCode (AndroidKeyCode.BACK));
+		this.device.screenChanged ();
 	}
 
 	/**
@@ -147,6 +126,7 @@ public class AndroidDeviceActions extends DeviceActions <AndroidDriver <MobileEl
 	 */
 	public void pressEnter () {
 		perform ("Pressing Enter button on Android device...", d -> d.pressKeyCode (AndroidKeyCode.ENTER));
+		this.device.screenChanged ();
 	}
 
 	/**
@@ -157,6 +137,37 @@ public class AndroidDeviceActions extends DeviceActions <AndroidDriver <MobileEl
 		perform ("Unlocking the Android device...", AndroidDriver <MobileElement>::unlockDevice);
 	}
 
+	private String dismiss (final AndroidActivity alert, final String buttonText, final ElementTarget [] otherwise) {
+		final String msg = "Alert Text: %s";
+		try {
+			if (otherwise.length > 0) {
+				final ElementTarget [] targets = new ElementTarget [otherwise.length + 1];
+				targets [0] = ElementTarget.of (alert, "Message");
+				System.arraycopy (otherwise, 0, targets, 1, otherwise.length);
+				final ElementTarget match = DeviceActivity.waitForAny (targets);
+				if (match == null) {
+					log.warn ("Expected Alert not displayed...");
+					return null;
+				}
+				if (match != targets [0]) {
+					log.trace (String.format ("Element [%s] displayed instead of Alert...", match));
+					return null;
+				}
+			}
+			final String description = alert.onElement ("Message")
+				.text ();
+			log.trace (String.format (msg, description));
+			alert.onElement (buttonText)
+				.tap ();
+			return description;
+		}
+		catch (final TimeoutException e) {
+			log.warn ("Expected Alert not displayed...");
+			log.warn (e.getMessage ());
+		}
+		return null;
+	}
+
 	private <T> T getValue (final String message, final Function <AndroidDriver <MobileElement>, T> action,
 			final Object... args) {
 		log.info (format (message, args));
@@ -41,6 +41,19 @@ public final class DeviceChecker {
 		}
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:49:36 PM
+	 * @param displayed
+	 * @param name
+	 */
+	public static void checkDeviceElementDisplayed (final boolean displayed, final String name) {
+		if (!displayed) {
+			final String msg = "Device element [%s] is not displayed.";
+			fail (DeviceElementNotDisplayedError.class, String.format (msg, name));
+		}
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since 04-May-2017 10:10:28 PM
@@ -48,9 +61,19 @@ public final class DeviceChecker {
 	 * @param name
 	 */
 	public static void checkDeviceElementDisplayed (final MobileElement element, final String name) {
-		if (!element.isDisplayed ()) {
-			final String msg = "Device element [%s] is not displayed.";
-			fail (DeviceElementNotDisplayedError.class, String.format (msg, name));
+		checkDeviceElementDisplayed (element.isDisplayed (), name);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:49:36 PM
+	 * @param enabled
+	 * @param name
+	 */
+	public static void checkDeviceElementEnabled (final boolean enabled, final String name) {
+		if (!enabled) {
+			final String msg = "Device element [%s] is disabled.";
+			fail (DeviceElementDisabledError.class, String.format (msg, name));
 		}
 	}
 
@@ -61,10 +84,7 @@ public final class DeviceChecker {
 	 * @param name
 	 */
 	public static void checkDeviceElementEnabled (final MobileElement element, final String name) {
-		if (!element.isEnabled ()) {
-			final String msg = "Device element [%s] is disabled.";
-			fail (DeviceElementDisabledError.class, String.format (msg, name));
-		}
+		checkDeviceElementEnabled (element.isEnabled (), name);
 	}
 
 	/**
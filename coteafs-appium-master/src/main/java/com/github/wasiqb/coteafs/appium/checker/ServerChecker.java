@@ -45,7 +45,7 @@ public final class ServerChecker {
 	 * @param server
 	 */
 	public static void checkServerRunning (final AppiumServer server) {
-		if (!server.isRunning ()) {
+		if (server == null || !server.isHealthy ()) {
 			fail (AppiumServerNotRunningError.class, "Server not started yet.");
 		}
 	}
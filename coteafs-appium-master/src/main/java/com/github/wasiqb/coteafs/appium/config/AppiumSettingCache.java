@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.config;
+
+import static com.github.wasiqb.coteafs.appium.constants.ConfigKeys.COTEAFS_CONFIG_DEFAULT_FILE;
+import static com.github.wasiqb.coteafs.appium.constants.ConfigKeys.COTEAFS_CONFIG_KEY;
+import static com.github.wasiqb.coteafs.appium.constants.ConfigKeys.COTEAFS_CONFIG_RELOAD_KEY;
+import static java.lang.String.format;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.github.wasiqb.coteafs.config.loader.ConfigLoader;
+
+/**
+ * Loads the config file once per config source and keeps the parsed settings. Every server and device gets its own
+ * copy of its setting, so changing it through its setters does not affect any other server or device, nor the
+ * cached settings.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:34:50 PM
+ */
+public final class AppiumSettingCache {
+	private static final class Snapshot {
+		private final Map <String, DeviceSetting>	devices;
+		private final long							modified;
+		private final Map <String, ServerSetting>	servers;
+		private final AppiumSetting					setting;
+
+		private Snapshot (final AppiumSetting setting, final long modified) {
+			this.setting = setting;
+			this.modified = modified;
+			this.devices = new ConcurrentHashMap <> ();
+			this.servers = new ConcurrentHashMap <> ();
+		}
+
+		private DeviceSetting device (final String name) {
+			return copy (this.devices.computeIfAbsent (name, this.setting::getDevice));
+		}
+
+		private ServerSetting server (final String name) {
+			return copy (this.servers.computeIfAbsent (name, this.setting::getServer));
+		}
+	}
+
+	private static final AtomicLong				lastLoadTime;
+	private static final AtomicLong				loadCount;
+	private static final Logger					log;
+	private static final Map <String, Snapshot>	snapshots;
+	private static final AtomicLong				totalLoadTime;
+
+	static {
+		log = LogManager.getLogger (AppiumSettingCache.class);
+		snapshots = new ConcurrentHashMap <> ();
+		loadCount = new AtomicLong ();
+		lastLoadTime = new AtomicLong ();
+		totalLoadTime = new AtomicLong ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:50 PM
+	 * @param name
+	 * @return copy of device setting
+	 */
+	public static DeviceSetting device (final String name) {
+		return snapshot ().device (name);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:50 PM
+	 * @return time taken by last config load in millis
+	 */
+	public static long lastLoadTime () {
+		return lastLoadTime.get ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:50 PM
+	 * @return number of times config was loaded
+	 */
+	public static long loadCount () {
+		return loadCount.get ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:50 PM
+	 * @param name
+	 * @return copy of server setting
+	 */
+	public static ServerSetting server (final String name) {
+		return snapshot ().server (name);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:50 PM
+	 * @return appium setting with read-only maps of setting copies
+	 */
+	public static AppiumSetting settings () {
+		final AppiumSetting setting = snapshot ().setting;
+		final AppiumSetting shared = new AppiumSetting ();
+		if (setting.getDevices () != null) {
+			shared.setDevices (Collections.unmodifiableMap (copy (setting.getDevices ())));
+		}
+		if (setting.getServers () != null) {
+			shared.setServers (Collections.unmodifiableMap (copy (setting.getServers ())));
+		}
+		return shared;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:50 PM
+	 * @return total time taken by all config loads in millis
+	 */
+	public static long totalLoadTime () {
+		return totalLoadTime.get ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:35:40 AM
+	 * @param <T>
+	 * @param setting
+	 * @return deep copy of setting, nested settings and maps are copied too
+	 */
+	@SuppressWarnings ("unchecked")
+	static <T> T copy (final T setting) {
+		if (setting == null || setting.getClass ()
+			.isEnum ()) {
+			return setting;
+		}
+		if (setting instanceof Map) {
+			final Map <Object, Object> copy = new HashMap <> ();
+			((Map <?, ?>) setting).forEach ((key, value) -> copy.put (key, copy (value)));
+			return (T) copy;
+		}
+		if (setting.getClass ()
+			.getPackage () != AppiumSettingCache.class.getPackage ()) {
+			return setting;
+		}
+		try {
+			final T copy = (T) setting.getClass ()
+				.newInstance ();
+			for (final Field field : setting.getClass ()
+				.getDeclaredFields ()) {
+				if (!Modifier.isStatic (field.getModifiers ())) {
+					field.setAccessible (true);
+					field.set (copy, copy (field.get (setting)));
+				}
+			}
+			return copy;
+		}
+		catch (final InstantiationException | IllegalAccessException e) {
+			throw new IllegalStateException (format ("Unable to copy [%s].", setting.getClass ()
+				.getSimpleName ()), e);
+		}
+	}
+
+	private static Snapshot load (final String source) {
+		final long start = System.nanoTime ();
+		final long modified = lastModified (source);
+		final AppiumSetting setting = ConfigLoader.settings ()
+			.withDefault (source)
+			.load (AppiumSetting.class);
+		final long time = TimeUnit.NANOSECONDS.toMillis (System.nanoTime () - start);
+		lastLoadTime.set (time);
+		totalLoadTime.addAndGet (time);
+		loadCount.incrementAndGet ();
+		log.trace (format ("Loaded config from [%s] in [%d] ms...", source, time));
+		return new Snapshot (setting, modified);
+	}
+
+	private static long lastModified (final String source) {
+		File file = new File (source);
+		if (!file.exists ()) {
+			final URL url = AppiumSettingCache.class.getResource (source);
+			if (url == null || !"file".equals (url.getProtocol ())) {
+				return 0;
+			}
+			try {
+				file = new File (url.toURI ());
+			}
+			catch (final URISyntaxException e) {
+				return 0;
+			}
+		}
+		return file.lastModified ();
+	}
+
+	private static Snapshot snapshot () {
+		final String source = System.getProperty (COTEAFS_CONFIG_KEY, COTEAFS_CONFIG_DEFAULT_FILE);
+		final Snapshot snapshot = snapshots.computeIfAbsent (source, AppiumSettingCache::load);
+		if (!Boolean.getBoolean (COTEAFS_CONFIG_RELOAD_KEY) || snapshot.modified == lastModified (source)) {
+			return snapshot;
+		}
+		synchronized (snapshots) {
+			final Snapshot current = snapshots.get (source);
+			if (current != snapshot) {
+				return current;
+			}
+			log.trace (format ("Config source [%s] modified, reloading...", source));
+			final Snapshot reloaded = load (source);
+			snapshots.put (source, reloaded);
+			return reloaded;
+		}
+	}
+
+	private AppiumSettingCache () {
+		// Utility class.
+	}
+}
\ No newline at end of file
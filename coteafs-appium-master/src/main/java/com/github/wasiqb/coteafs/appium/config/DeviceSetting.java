@@ -37,6 +37,7 @@ public class DeviceSetting {
 	private boolean					noReset;
 	private PlatformType			platformType;
 	private PlaybackSetting			playback;
+	private SessionPoolSetting		sessionPool;
 	private int						sessionTimeout;
 	private String					udid;
 
@@ -54,6 +55,7 @@ public class DeviceSetting {
 		this.externalApp = false;
 		this.clearSystemFiles = false;
 		this.sessionTimeout = 120;
+		this.sessionPool = new SessionPoolSetting ();
 	}
 
 	/**
@@ -164,6 +166,15 @@ public class DeviceSetting {
 		return this.playback;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @return the sessionPool
+	 */
+	public SessionPoolSetting getSessionPool () {
+		return this.sessionPool;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since 08-May-2017 7:59:42 PM
@@ -397,6 +408,16 @@ public class DeviceSetting {
 		this.playback = playback;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @param sessionPool
+	 *            the sessionPool to set
+	 */
+	public void setSessionPool (final SessionPoolSetting sessionPool) {
+		this.sessionPool = sessionPool;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since 08-May-2017 7:59:42 PM
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.config;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:38:22 PM
+ */
+public class HttpClientSetting {
+	private int				connectTimeout;
+	private int				keepAlive;
+	private int				maxConnections;
+	private int				readTimeout;
+	private int				sessionTimeout;
+	private HttpClientType	type;
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 */
+	public HttpClientSetting () {
+		this.connectTimeout = 10;
+		this.keepAlive = 300;
+		this.maxConnections = 8;
+		this.readTimeout = 120;
+		this.sessionTimeout = 600;
+		this.type = HttpClientType.DEFAULT;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 * @return the connectTimeout
+	 */
+	public int getConnectTimeout () {
+		return this.connectTimeout;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 * @return the keepAlive
+	 */
+	public int getKeepAlive () {
+		return this.keepAlive;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 * @return the maxConnections
+	 */
+	public int getMaxConnections () {
+		return this.maxConnections;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 * @return the readTimeout
+	 */
+	public int getReadTimeout () {
+		return this.readTimeout;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:44:49 AM
+	 * @return the sessionTimeout
+	 */
+	public int getSessionTimeout () {
+		return this.sessionTimeout;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 * @return the type
+	 */
+	public HttpClientType getType () {
+		return this.type;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 * @param connectTimeout
+	 *            the connectTimeout to set
+	 */
+	public void setConnectTimeout (final int connectTimeout) {
+		this.connectTimeout = connectTimeout;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 * @param keepAlive
+	 *            the keepAlive to set
+	 */
+	public void setKeepAlive (final int keepAlive) {
+		this.keepAlive = keepAlive;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 * @param maxConnections
+	 *            the maxConnections to set
+	 */
+	public void setMaxConnections (final int maxConnections) {
+		this.maxConnections = maxConnections;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 * @param readTimeout
+	 *            the readTimeout to set
+	 */
+	public void setReadTimeout (final int readTimeout) {
+		this.readTimeout = readTimeout;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:44:49 AM
+	 * @param sessionTimeout
+	 *            the sessionTimeout to set
+	 */
+	public void setSessionTimeout (final int sessionTimeout) {
+		this.sessionTimeout = sessionTimeout;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 * @param type
+	 *            the type to set
+	 */
+	public void setType (final HttpClientType type) {
+		this.type = type;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.config;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:38:22 PM
+ */
+public enum HttpClientType {
+	/**
+	 * Default Selenium HTTP client.
+	 */
+	DEFAULT,
+	/**
+	 * Pooled keep-alive HTTP client.
+	 */
+	POOLED;
+}
\ No newline at end of file
@@ -22,15 +22,33 @@ import static java.lang.String.format;
  * @since Jan 18, 2018 9:32:14 PM
  */
 public class PlaybackSetting {
-	private int		defaultWait;
-	private int		delayAfterSwipe;
-	private int		delayAfterTap;
-	private int		delayBeforeSwipe;
-	private int		delayBeforeTap;
-	private boolean	screenshotOnError;
-	private String	screenShotPath;
-	private String	screenShotPrefix;
-	private int		waitForElementUntil;
+	private boolean				autoDelay;
+	private boolean				cacheElements;
+	private int					defaultWait;
+	private int					delayAfterSwipe;
+	private long				delayAfterSwipeMs;
+	private int					delayAfterTap;
+	private long				delayAfterTapMs;
+	private int					delayBeforeSwipe;
+	private long				delayBeforeSwipeMs;
+	private int					delayBeforeTap;
+	private long				delayBeforeTapMs;
+	private long				elementCacheTtl;
+	private long				longPressDurationMs;
+	private long				maxPollingInterval;
+	private int					maxScrollSwipes;
+	private boolean				optimizeLocators;
+	private double				pollingBackoff;
+	private long				pollingInterval;
+	private double				pollingJitter;
+	private boolean				profileLocators;
+	private boolean				screenshotOnError;
+	private String				screenShotPath;
+	private String				screenShotPrefix;
+	private long				swipeDurationMs;
+	private TextEntryStrategy	textEntry;
+	private boolean				trustElementState;
+	private int					waitForElementUntil;
 
 	/**
 	 * @author wasiq.bhamla
@@ -46,6 +64,23 @@ public class PlaybackSetting {
 		this.screenShotPath = format ("%s/screenshots", System.getProperty ("user.dir"));
 		this.screenShotPrefix = "SCR";
 		this.screenshotOnError = false;
+		this.cacheElements = false;
+		this.elementCacheTtl = 5000;
+		this.pollingInterval = 100;
+		this.maxPollingInterval = 1000;
+		this.pollingBackoff = 1.5;
+		this.pollingJitter = 0.1;
+		this.optimizeLocators = false;
+		this.profileLocators = false;
+		this.trustElementState = false;
+		this.delayAfterSwipeMs = -1;
+		this.delayAfterTapMs = -1;
+		this.delayBeforeSwipeMs = -1;
+		this.delayBeforeTapMs = -1;
+		this.longPressDurationMs = 1000;
+		this.swipeDurationMs = 300;
+		this.textEntry = TextEntryStrategy.AUTO;
+		this.maxScrollSwipes = 10;
 	}
 
 	/**
@@ -66,6 +101,15 @@ public class PlaybackSetting {
 		return this.delayAfterSwipe;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @return the delayAfterSwipeMs in millis, -1 to use the seconds setting
+	 */
+	public long getDelayAfterSwipeMs () {
+		return this.delayAfterSwipeMs;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Jan 18, 2018 9:35:15 PM
@@ -75,6 +119,15 @@ public class PlaybackSetting {
 		return this.delayAfterTap;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @return the delayAfterTapMs in millis, -1 to use the seconds setting
+	 */
+	public long getDelayAfterTapMs () {
+		return this.delayAfterTapMs;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Jan 18, 2018 9:35:15 PM
@@ -84,6 +137,15 @@ public class PlaybackSetting {
 		return this.delayBeforeSwipe;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @return the delayBeforeSwipeMs in millis, -1 to use the seconds setting
+	 */
+	public long getDelayBeforeSwipeMs () {
+		return this.delayBeforeSwipeMs;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Jan 18, 2018 9:35:15 PM
@@ -93,6 +155,78 @@ public class PlaybackSetting {
 		return this.delayBeforeTap;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @return the delayBeforeTapMs in millis, -1 to use the seconds setting
+	 */
+	public long getDelayBeforeTapMs () {
+		return this.delayBeforeTapMs;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:40:37 PM
+	 * @return the elementCacheTtl in millis
+	 */
+	public long getElementCacheTtl () {
+		return this.elementCacheTtl;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @return the longPressDurationMs in millis
+	 */
+	public long getLongPressDurationMs () {
+		return this.longPressDurationMs;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @return the maxPollingInterval in millis
+	 */
+	public long getMaxPollingInterval () {
+		return this.maxPollingInterval;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:59:15 PM
+	 * @return the maxScrollSwipes
+	 */
+	public int getMaxScrollSwipes () {
+		return this.maxScrollSwipes;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @return the pollingBackoff
+	 */
+	public double getPollingBackoff () {
+		return this.pollingBackoff;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @return the pollingInterval in millis
+	 */
+	public long getPollingInterval () {
+		return this.pollingInterval;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @return the pollingJitter
+	 */
+	public double getPollingJitter () {
+		return this.pollingJitter;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Jan 18, 2018 9:35:15 PM
@@ -111,6 +245,24 @@ public class PlaybackSetting {
 		return this.screenShotPrefix;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @return the swipeDurationMs in millis
+	 */
+	public long getSwipeDurationMs () {
+		return this.swipeDurationMs;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:54:46 PM
+	 * @return the textEntry
+	 */
+	public TextEntryStrategy getTextEntry () {
+		return this.textEntry;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Jan 18, 2018 9:35:15 PM
@@ -120,6 +272,42 @@ public class PlaybackSetting {
 		return this.waitForElementUntil;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:55:38 PM
+	 * @return the autoDelay
+	 */
+	public boolean isAutoDelay () {
+		return this.autoDelay;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:40:37 PM
+	 * @return the cacheElements
+	 */
+	public boolean isCacheElements () {
+		return this.cacheElements;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:07 PM
+	 * @return the optimizeLocators
+	 */
+	public boolean isOptimizeLocators () {
+		return this.optimizeLocators;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:56 PM
+	 * @return the profileLocators
+	 */
+	public boolean isProfileLocators () {
+		return this.profileLocators;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Jan 18, 2018 9:35:15 PM
@@ -129,6 +317,35 @@ public class PlaybackSetting {
 		return this.screenshotOnError;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:49:36 PM
+	 * @return the trustElementState
+	 */
+	public boolean isTrustElementState () {
+		return this.trustElementState;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:55:38 PM
+	 * @param autoDelay
+	 *            the autoDelay to set
+	 */
+	public void setAutoDelay (final boolean autoDelay) {
+		this.autoDelay = autoDelay;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:40:37 PM
+	 * @param cacheElements
+	 *            the cacheElements to set
+	 */
+	public void setCacheElements (final boolean cacheElements) {
+		this.cacheElements = cacheElements;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Jan 18, 2018 9:35:15 PM
@@ -149,6 +366,16 @@ public class PlaybackSetting {
 		this.delayAfterSwipe = delayAfterSwipe;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param delayAfterSwipeMs
+	 *            the delayAfterSwipeMs in millis, -1 to use the seconds setting to set
+	 */
+	public void setDelayAfterSwipeMs (final long delayAfterSwipeMs) {
+		this.delayAfterSwipeMs = delayAfterSwipeMs;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Jan 18, 2018 9:35:15 PM
@@ -159,6 +386,16 @@ public class PlaybackSetting {
 		this.delayAfterTap = delayAfterTap;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param delayAfterTapMs
+	 *            the delayAfterTapMs in millis, -1 to use the seconds setting to set
+	 */
+	public void setDelayAfterTapMs (final long delayAfterTapMs) {
+		this.delayAfterTapMs = delayAfterTapMs;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Jan 18, 2018 9:35:15 PM
@@ -169,6 +406,16 @@ public class PlaybackSetting {
 		this.delayBeforeSwipe = delayBeforeSwipe;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param delayBeforeSwipeMs
+	 *            the delayBeforeSwipeMs in millis, -1 to use the seconds setting to set
+	 */
+	public void setDelayBeforeSwipeMs (final long delayBeforeSwipeMs) {
+		this.delayBeforeSwipeMs = delayBeforeSwipeMs;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Jan 18, 2018 9:35:15 PM
@@ -179,6 +426,106 @@ public class PlaybackSetting {
 		this.delayBeforeTap = delayBeforeTap;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param delayBeforeTapMs
+	 *            the delayBeforeTapMs in millis, -1 to use the seconds setting to set
+	 */
+	public void setDelayBeforeTapMs (final long delayBeforeTapMs) {
+		this.delayBeforeTapMs = delayBeforeTapMs;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:40:37 PM
+	 * @param elementCacheTtl
+	 *            the elementCacheTtl in millis to set
+	 */
+	public void setElementCacheTtl (final long elementCacheTtl) {
+		this.elementCacheTtl = elementCacheTtl;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param longPressDurationMs
+	 *            the longPressDurationMs in millis to set
+	 */
+	public void setLongPressDurationMs (final long longPressDurationMs) {
+		this.longPressDurationMs = longPressDurationMs;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @param maxPollingInterval
+	 *            the maxPollingInterval in millis to set
+	 */
+	public void setMaxPollingInterval (final long maxPollingInterval) {
+		this.maxPollingInterval = maxPollingInterval;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:59:15 PM
+	 * @param maxScrollSwipes
+	 *            the maxScrollSwipes to set
+	 */
+	public void setMaxScrollSwipes (final int maxScrollSwipes) {
+		this.maxScrollSwipes = maxScrollSwipes;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:07 PM
+	 * @param optimizeLocators
+	 *            the optimizeLocators to set
+	 */
+	public void setOptimizeLocators (final boolean optimizeLocators) {
+		this.optimizeLocators = optimizeLocators;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @param pollingBackoff
+	 *            the pollingBackoff to set
+	 */
+	public void setPollingBackoff (final double pollingBackoff) {
+		this.pollingBackoff = pollingBackoff;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @param pollingInterval
+	 *            the pollingInterval in millis to set
+	 */
+	public void setPollingInterval (final long pollingInterval) {
+		this.pollingInterval = pollingInterval;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @param pollingJitter
+	 *            the pollingJitter to set
+	 */
+	public void setPollingJitter (final double pollingJitter) {
+		this.pollingJitter = pollingJitter;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:56 PM
+	 * @param profileLocators
+	 *            the profileLocators to set
+	 */
+	public void setProfileLocators (final boolean profileLocators) {
+		this.profileLocators = profileLocators;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Jan 18, 2018 9:35:15 PM
@@ -209,6 +556,36 @@ public class PlaybackSetting {
 		this.screenShotPrefix = screenShotPrefix;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param swipeDurationMs
+	 *            the swipeDurationMs in millis to set
+	 */
+	public void setSwipeDurationMs (final long swipeDurationMs) {
+		this.swipeDurationMs = swipeDurationMs;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:54:46 PM
+	 * @param textEntry
+	 *            the textEntry to set
+	 */
+	public void setTextEntry (final TextEntryStrategy textEntry) {
+		this.textEntry = textEntry;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:49:36 PM
+	 * @param trustElementState
+	 *            the trustElementState to set
+	 */
+	public void setTrustElementState (final boolean trustElementState) {
+		this.trustElementState = trustElementState;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Jan 18, 2018 9:35:15 PM
@@ -34,6 +34,9 @@ public class ServerSetting {
 	private Map <String, String>	environmentVariables;
 	private boolean					external;
 	private boolean					fullReset;
+	private long					healthCacheTtl;
+	private long					healthCheckInterval;
+	private HttpClientSetting		httpClient;
 	private String					ip;
 	private String					logFilePath;
 	private String					nodePath;
@@ -53,8 +56,11 @@ public class ServerSetting {
 		this.fullReset = false;
 		this.sessionTimeout = 120;
 		this.startUpTimeOutSeconds = 60;
+		this.healthCheckInterval = 2000;
+		this.healthCacheTtl = 5000;
 		this.environmentVariables = new HashMap <> ();
 		this.logFilePath = String.format ("%s/logs/server-%d.log", System.getProperty ("user.dir"), countInstance);
+		this.httpClient = new HttpClientSetting ();
 	}
 
 	/**
@@ -84,6 +90,33 @@ public class ServerSetting {
 		return this.environmentVariables;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:37:14 PM
+	 * @return the healthCacheTtl in millis
+	 */
+	public long getHealthCacheTtl () {
+		return this.healthCacheTtl;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:37:14 PM
+	 * @return the healthCheckInterval in millis
+	 */
+	public long getHealthCheckInterval () {
+		return this.healthCheckInterval;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 * @return the httpClient
+	 */
+	public HttpClientSetting getHttpClient () {
+		return this.httpClient;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since 12-Apr-2017 8:51:26 PM
@@ -215,6 +248,36 @@ public class ServerSetting {
 		this.fullReset = fullReset;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:37:14 PM
+	 * @param healthCacheTtl
+	 *            the healthCacheTtl in millis to set
+	 */
+	public void setHealthCacheTtl (final long healthCacheTtl) {
+		this.healthCacheTtl = healthCacheTtl;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:37:14 PM
+	 * @param healthCheckInterval
+	 *            the healthCheckInterval in millis to set
+	 */
+	public void setHealthCheckInterval (final long healthCheckInterval) {
+		this.healthCheckInterval = healthCheckInterval;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 * @param httpClient
+	 *            the httpClient to set
+	 */
+	public void setHttpClient (final HttpClientSetting httpClient) {
+		this.httpClient = httpClient;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since 12-Apr-2017 8:51:26 PM
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.config;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:34:23 PM
+ */
+public class SessionPoolSetting {
+	private boolean		enabled;
+	private int			idleTimeout;
+	private int			leaseTimeout;
+	private int			maxSessions;
+	private ResetPolicy	resetPolicy;
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 */
+	public SessionPoolSetting () {
+		this.enabled = false;
+		this.idleTimeout = 300;
+		this.leaseTimeout = 120;
+		this.maxSessions = 1;
+		this.resetPolicy = ResetPolicy.RELAUNCH_APP;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @return the idleTimeout
+	 */
+	public int getIdleTimeout () {
+		return this.idleTimeout;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @return the leaseTimeout
+	 */
+	public int getLeaseTimeout () {
+		return this.leaseTimeout;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @return the maxSessions
+	 */
+	public int getMaxSessions () {
+		return this.maxSessions;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @return the resetPolicy
+	 */
+	public ResetPolicy getResetPolicy () {
+		return this.resetPolicy;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @return the enabled
+	 */
+	public boolean isEnabled () {
+		return this.enabled;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @param enabled
+	 *            the enabled to set
+	 */
+	public void setEnabled (final boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @param idleTimeout
+	 *            the idleTimeout to set
+	 */
+	public void setIdleTimeout (final int idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @param leaseTimeout
+	 *            the leaseTimeout to set
+	 */
+	public void setLeaseTimeout (final int leaseTimeout) {
+		this.leaseTimeout = leaseTimeout;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @param maxSessions
+	 *            the maxSessions to set
+	 */
+	public void setMaxSessions (final int maxSessions) {
+		this.maxSessions = maxSessions;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @param resetPolicy
+	 *            the resetPolicy to set
+	 */
+	public void setResetPolicy (final ResetPolicy resetPolicy) {
+		this.resetPolicy = resetPolicy;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.config;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:54:46 PM
+ */
+public enum TextEntryStrategy {
+	/**
+	 * Android only, types with adb input text, needs server started with relaxed security.
+	 */
+	ADB,
+	/**
+	 * Send keys, or W3C key actions when key typing delay is set.
+	 */
+	AUTO,
+	/**
+	 * W3C key actions, honours key typing delay. Falls back to send keys when session does not support W3C
+	 * actions.
+	 */
+	KEYS,
+	/**
+	 * Send keys to element.
+	 */
+	SEND_KEYS,
+	/**
+	 * Set or replace value of element in single call.
+	 */
+	SET_VALUE;
+}
\ No newline at end of file
@@ -28,4 +28,8 @@ public interface ConfigKeys {
 	 * Config key to use.
 	 */
 	String	COTEAFS_CONFIG_KEY			= "coteafs.appium.config";
+	/**
+	 * Config key to enable reloading of modified config file.
+	 */
+	String	COTEAFS_CONFIG_RELOAD_KEY	= "coteafs.appium.config.reload";
 }
\ No newline at end of file
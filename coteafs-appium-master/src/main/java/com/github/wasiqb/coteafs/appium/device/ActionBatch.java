@@ -0,0 +1,268 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.github.wasiqb.coteafs.appium.constants.ErrorMessage.SERVER_STOPPED;
+import static com.github.wasiqb.coteafs.appium.utils.ErrorUtils.fail;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebDriverException;
+
+import com.github.wasiqb.coteafs.appium.checker.DeviceChecker;
+import com.github.wasiqb.coteafs.appium.config.ApplicationType;
+import com.github.wasiqb.coteafs.appium.config.PlaybackSetting;
+import com.github.wasiqb.coteafs.appium.error.AppiumServerStoppedError;
+import com.github.wasiqb.coteafs.appium.error.DeviceElementActionFailedError;
+import com.github.wasiqb.coteafs.appium.utils.GestureUtils;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.MobileElement;
+
+/**
+ * Element actions recorded in a plan and flushed together. All elements are resolved before the
+ * first action, and failures name the element on which they occurred. Consecutive taps and long presses
+ * are sent as one pointer actions request when tap delays are configured, so the delays pause between
+ * them. With auto delay each press is sent alone and followed by a wait for the UI to become idle, so a
+ * press never lands on a screen still reacting to the previous one.
+ *
+ * @author agent
+ * @param <D>
+ * @param <E>
+ * @since Oct 17, 2026 10:53:10 PM
+ */
+public class ActionBatch <D extends AppiumDriver <MobileElement>, E extends Device <D>> {
+	private enum Kind {
+		APPEND ("Appending text in", false),
+		CLEAR ("Clearing", false),
+		ENTER ("Entering text in", false),
+		LONG_PRESS ("Performing long press on", true),
+		TAP ("Tapping on", true);
+
+		private final String	action;
+		private final boolean	pointer;
+
+		private Kind (final String action, final boolean pointer) {
+			this.action = action;
+			this.pointer = pointer;
+		}
+	}
+
+	private static final class Step {
+		private final Kind		kind;
+		private final String	name;
+		private final String	text;
+
+		private Step (final Kind kind, final String name, final String text) {
+			this.kind = kind;
+			this.name = name;
+			this.text = text;
+		}
+	}
+
+	private static final Logger log;
+
+	static {
+		log = LogManager.getLogger (ActionBatch.class);
+	}
+
+	private final DeviceActivity <D, E>	activity;
+	private final E						device;
+	private final PlaybackSetting		setting;
+	private final List <Step>			steps;
+	private final TextEntry				textEntry;
+
+	ActionBatch (final DeviceActivity <D, E> activity) {
+		this.activity = activity;
+		this.device = activity.device;
+		this.setting = this.device.getSetting ()
+			.getPlayback ();
+		this.steps = new ArrayList <> ();
+		this.textEntry = new TextEntry (this.device);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:10 PM
+	 * @param name
+	 * @param text
+	 * @return this batch
+	 */
+	public ActionBatch <D, E> appendText (final String name, final String text) {
+		return add (Kind.APPEND, name, text);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:10 PM
+	 * @param name
+	 * @return this batch
+	 */
+	public ActionBatch <D, E> clear (final String name) {
+		return add (Kind.CLEAR, name, null);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:10 PM
+	 * @param name
+	 * @param text
+	 * @return this batch
+	 */
+	public ActionBatch <D, E> enterText (final String name, final String text) {
+		return add (Kind.ENTER, name, text);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:10 PM
+	 * @param name
+	 * @return this batch
+	 */
+	public ActionBatch <D, E> longPress (final String name) {
+		return add (Kind.LONG_PRESS, name, null);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:10 PM
+	 * @param name
+	 * @return this batch
+	 */
+	public ActionBatch <D, E> tap (final String name) {
+		return add (Kind.TAP, name, null);
+	}
+
+	void flush () {
+		if (this.steps.isEmpty ()) {
+			return;
+		}
+		final String msg = "Flushing [%d] batched actions...";
+		log.info (String.format (msg, this.steps.size ()));
+		try {
+			final Map <String, ElementState> states = resolve ();
+			int index = 0;
+			while (index < this.steps.size ()) {
+				final Step step = this.steps.get (index);
+				if (step.kind.pointer) {
+					int end = index + 1;
+					while (merged () && end < this.steps.size () && this.steps.get (end).kind.pointer) {
+						end++;
+					}
+					press (this.steps.subList (index, end), states);
+					index = end;
+				}
+				else {
+					type (step, states.get (step.name));
+					index++;
+				}
+			}
+		}
+		catch (final NoSuchSessionException e) {
+			fail (AppiumServerStoppedError.class, SERVER_STOPPED, e);
+		}
+		finally {
+			this.steps.clear ();
+			this.device.screenChanged ();
+		}
+	}
+
+	private ActionBatch <D, E> add (final Kind kind, final String name, final String text) {
+		this.steps.add (new Step (kind, name, text));
+		return this;
+	}
+
+	private void failed (final String action, final Set <String> names, final WebDriverException cause) {
+		final String msg = "%s element %s failed in batch.";
+		fail (DeviceElementActionFailedError.class, String.format (msg, action, names), cause);
+	}
+
+	private boolean merged () {
+		return GestureUtils.delayBeforeTap (this.setting) + GestureUtils.delayAfterTap (this.setting) > 0;
+	}
+
+	private void press (final List <Step> run, final Map <String, ElementState> states) {
+		final List <Point> points = new ArrayList <> ();
+		final List <Long> holds = new ArrayList <> ();
+		final Set <String> names = new LinkedHashSet <> ();
+		for (final Step step : run) {
+			log.info (String.format ("%s element [%s]...", step.kind.action, step.name));
+			points.add (GestureUtils.center (states.get (step.name)
+				.rect ()));
+			holds.add (step.kind == Kind.LONG_PRESS ? this.setting.getLongPressDurationMs () : 0L);
+			names.add (step.name);
+		}
+		try {
+			GestureUtils.perform (this.device.getDriver (), GestureUtils.press ("finger", this.setting, points, holds));
+			UiIdle.await (this.device.getDriver (), this.setting, GestureUtils.tapDelays (this.setting));
+		}
+		catch (final NoSuchSessionException e) {
+			throw e;
+		}
+		catch (final WebDriverException e) {
+			failed (run.size () == 1 ? run.get (0).kind.action : "Pressing", names, e);
+		}
+	}
+
+	private Map <String, ElementState> resolve () {
+		final boolean web = this.device.getSetting ()
+			.getAppType () == ApplicationType.WEB;
+		final Map <String, ElementState> states = new LinkedHashMap <> ();
+		for (final Step step : this.steps) {
+			if (!states.containsKey (step.name)) {
+				final ElementState state = new ElementState (this.device.getDriver (),
+						this.activity.getElement (step.name), web);
+				if (!this.setting.isTrustElementState ()) {
+					DeviceChecker.checkDeviceElementDisplayed (state.displayed (), step.name);
+					DeviceChecker.checkDeviceElementEnabled (state.enabled (), step.name);
+				}
+				states.put (step.name, state);
+			}
+		}
+		return states;
+	}
+
+	private void type (final Step step, final ElementState state) {
+		log.info (String.format ("%s element [%s]...", step.kind.action, step.name));
+		final MobileElement element = state.element ();
+		try {
+			if (step.kind == Kind.CLEAR) {
+				element.clear ();
+			}
+			else {
+				this.textEntry.enter (element, step.text, step.kind == Kind.APPEND, () -> GestureUtils
+					.tap (this.device.getDriver (), this.setting, GestureUtils.center (state.rect ())));
+			}
+		}
+		catch (final NoSuchSessionException e) {
+			throw e;
+		}
+		catch (final WebDriverException e) {
+			final Set <String> names = new LinkedHashSet <> ();
+			names.add (step.name);
+			failed (step.kind.action, names, e);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,268 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.github.wasiqb.coteafs.appium.constants.ErrorMessage.SERVER_STOPPED;
+import static com.github.wasiqb.coteafs.appium.utils.ErrorUtils.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NoSuchSessionException;
+
+import com.github.wasiqb.coteafs.appium.device.PageSnapshot.Node;
+import com.github.wasiqb.coteafs.appium.error.AppiumServerStoppedError;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.MobileElement;
+
+/**
+ * Read-only view of an activity answered from a single page source fetch. Anything which can not be
+ * evaluated from the page source is read from the live device.
+ *
+ * @author agent
+ * @param <D>
+ * @param <E>
+ * @since Oct 17, 2026 10:43:41 PM
+ */
+public class ActivitySnapshot <D extends AppiumDriver <MobileElement>, E extends Device <D>> {
+	private static final Logger log;
+
+	static {
+		log = LogManager.getLogger (ActivitySnapshot.class);
+	}
+
+	private final DeviceActivity <D, E>	activity;
+	private PageSnapshot				snapshot;
+	private long						version;
+
+	ActivitySnapshot (final DeviceActivity <D, E> activity) {
+		this.activity = activity;
+		refresh ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @param name
+	 * @param attribute
+	 * @return attribute value
+	 */
+	public String attribute (final String name, final String attribute) {
+		return query (name, (s, n) -> n.attribute (attribute), e -> e.getAttribute (attribute));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @param name
+	 * @return enabled
+	 */
+	public boolean enabled (final String name) {
+		return query (name, PageSnapshot::enabled, MobileElement::isEnabled);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @return refreshed snapshot
+	 */
+	public ActivitySnapshot <D, E> refresh () {
+		final E device = this.activity.device;
+		this.version = device.getScreenVersion ();
+		try {
+			final long start = System.currentTimeMillis ();
+			final String source = device.getDriver ()
+				.getPageSource ();
+			this.snapshot = PageSnapshot.parse (source, device.getSetting ()
+				.getPlatformType ());
+			final String msg = "Page source snapshot with [%d] nodes taken in [%d] ms...";
+			log.trace (String.format (msg, this.snapshot.size (), System.currentTimeMillis () - start));
+		}
+		catch (final NoSuchSessionException e) {
+			fail (AppiumServerStoppedError.class, SERVER_STOPPED, e);
+		}
+		catch (final XMLStreamException e) {
+			log.warn ("Error occurred while parsing page source, all queries will use the device...");
+			log.catching (e);
+			this.snapshot = null;
+		}
+		return this;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @param name
+	 * @return selected
+	 */
+	public boolean selected (final String name) {
+		return query (name, PageSnapshot::selected, MobileElement::isSelected);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @param name
+	 * @return text
+	 */
+	public String text (final String name) {
+		return query (name, PageSnapshot::text, MobileElement::getText);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @param name
+	 * @return visible
+	 */
+	public boolean visible (final String name) {
+		return query (name, PageSnapshot::visible, MobileElement::isDisplayed);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:59:15 PM
+	 * @return texts of all nodes in page source, or null if page source could not be parsed
+	 */
+	Set <String> fingerprint () {
+		refreshIfChanged ();
+		return this.snapshot == null ? null : this.snapshot.fingerprint ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:44 PM
+	 * @param name
+	 * @return true if element is displayed in page source, false if its locator or the locator of
+	 *         any of its parents did not match, or null if locator can not be evaluated on page source
+	 */
+	Boolean present (final String name) {
+		refreshIfChanged ();
+		if (this.snapshot == null) {
+			return null;
+		}
+		final DeviceElement element = this.activity.deviceElement (name);
+		final List <Node> nodes = nodes (element);
+		if (nodes == null) {
+			return null;
+		}
+		if (nodes.size () <= element.index ()) {
+			return Boolean.FALSE;
+		}
+		final Boolean visible = this.snapshot.visible (nodes.get (element.index ()));
+		return visible == null ? Boolean.TRUE : visible;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:00 PM
+	 * @param <T>
+	 * @param name
+	 * @param local
+	 * @param expected
+	 *            number of elements found on device
+	 * @param indices
+	 *            positions of the elements to read among all the matching elements, null to read all
+	 * @return values of the elements at given positions or null if any of them can not be read from
+	 *         page source
+	 */
+	<T> List <T> queryAll (final String name, final BiFunction <PageSnapshot, Node, T> local, final int expected,
+			final int [] indices) {
+		refreshIfChanged ();
+		if (this.snapshot == null) {
+			return null;
+		}
+		final List <Node> nodes = nodes (this.activity.deviceElement (name));
+		if (nodes == null || nodes.size () != expected) {
+			return null;
+		}
+		final int count = indices == null ? expected : indices.length;
+		final List <T> values = new ArrayList <> ();
+		for (int i = 0; i < count; i++) {
+			final T value = local.apply (this.snapshot, nodes.get (indices == null ? i : indices [i]));
+			if (value == null) {
+				return null;
+			}
+			values.add (value);
+		}
+		final String msg = "Read [%d] elements [%s] from page source snapshot...";
+		log.trace (String.format (msg, count, name));
+		return values;
+	}
+
+	private Node node (final DeviceElement element) {
+		final List <Node> nodes = nodes (element);
+		if (nodes == null || nodes.size () <= element.index ()) {
+			return null;
+		}
+		return nodes.get (element.index ());
+	}
+
+	private List <Node> nodes (final DeviceElement element) {
+		Node context = null;
+		final DeviceElement parent = element.parent ();
+		if (parent != null) {
+			final List <Node> parents = nodes (parent);
+			if (parents == null) {
+				return null;
+			}
+			if (parents.size () <= parent.index ()) {
+				return Collections.emptyList ();
+			}
+			context = parents.get (parent.index ());
+		}
+		return this.snapshot.find (context, element.locator ());
+	}
+
+	private <T> T query (final String name, final BiFunction <PageSnapshot, Node, T> local,
+			final Function <MobileElement, T> live) {
+		refreshIfChanged ();
+		if (this.snapshot != null) {
+			final Node node = node (this.activity.deviceElement (name));
+			final T value = node != null ? local.apply (this.snapshot, node) : null;
+			if (value != null) {
+				final String msg = "Read element [%s] from page source snapshot...";
+				log.trace (String.format (msg, name));
+				return value;
+			}
+		}
+		final String msg = "Element [%s] not available in page source snapshot, reading from device...";
+		log.trace (String.format (msg, name));
+		try {
+			return live.apply (this.activity.getElement (name));
+		}
+		catch (final NoSuchSessionException e) {
+			fail (AppiumServerStoppedError.class, SERVER_STOPPED, e);
+		}
+		return null;
+	}
+
+	private void refreshIfChanged () {
+		if (this.version != this.activity.device.getScreenVersion ()) {
+			log.trace ("Screen changed since snapshot was taken, refreshing snapshot...");
+			refresh ();
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.github.wasiqb.coteafs.appium.constants.ErrorMessage.SERVER_STOPPED;
+import static com.github.wasiqb.coteafs.appium.utils.ErrorUtils.fail;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import com.github.wasiqb.coteafs.appium.error.AppiumServerStoppedError;
+import com.github.wasiqb.coteafs.error.CoteafsError;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.MobileElement;
+
+/**
+ * Expectations on elements of an activity which are collected first and then evaluated together on
+ * single page source snapshot. All mismatches are reported together.
+ *
+ * @author agent
+ * @param <D>
+ * @param <E>
+ * @since Oct 17, 2026 10:57:44 PM
+ */
+public class ActivityVerify <D extends AppiumDriver <MobileElement>, E extends Device <D>> {
+	private static final Logger log;
+
+	static {
+		log = LogManager.getLogger (ActivityVerify.class);
+	}
+
+	private final DeviceActivity <D, E>								activity;
+	private final List <Function <ActivitySnapshot <D, E>, String>>	expectations;
+
+	ActivityVerify (final DeviceActivity <D, E> activity) {
+		this.activity = activity;
+		this.expectations = new ArrayList <> ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:44 PM
+	 * @param name
+	 * @param attribute
+	 * @param expected
+	 * @return instance
+	 */
+	public ActivityVerify <D, E> attributeShouldBeEqualTo (final String name, final String attribute,
+			final String expected) {
+		return expect (name, String.format ("to have attribute [%s] as [%s]", attribute, expected), s -> {
+			final String actual = s.attribute (name, attribute);
+			return Objects.equals (actual, expected) ? null : String.format ("was [%s]", actual);
+		});
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:44 PM
+	 * @param name
+	 * @return instance
+	 */
+	public ActivityVerify <D, E> shouldBeDisabled (final String name) {
+		return expect (name, "to be disabled", s -> s.enabled (name) ? "was enabled" : null);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:44 PM
+	 * @param name
+	 * @return instance
+	 */
+	public ActivityVerify <D, E> shouldBeDisplayed (final String name) {
+		return expect (name, "to be displayed", s -> s.visible (name) ? null : "was not displayed");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:44 PM
+	 * @param name
+	 * @return instance
+	 */
+	public ActivityVerify <D, E> shouldBeEnabled (final String name) {
+		return expect (name, "to be enabled", s -> s.enabled (name) ? null : "was disabled");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:44 PM
+	 * @param name
+	 * @return instance
+	 */
+	public ActivityVerify <D, E> shouldNotBeDisplayed (final String name) {
+		return expect (name, "not to be displayed", s -> {
+			if (s.present (name) == Boolean.FALSE) {
+				return null;
+			}
+			try {
+				final MobileElement element = this.activity.probe (name);
+				return element != null && element.isDisplayed () ? "was displayed" : null;
+			}
+			catch (final StaleElementReferenceException e) {
+				return null;
+			}
+			catch (final NoSuchSessionException e) {
+				fail (AppiumServerStoppedError.class, SERVER_STOPPED, e);
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:44 PM
+	 * @param name
+	 * @param expected
+	 * @return instance
+	 */
+	public ActivityVerify <D, E> textShouldBeEqualTo (final String name, final String expected) {
+		return expect (name, String.format ("to have text [%s]", expected), s -> {
+			final String actual = s.text (name);
+			return Objects.equals (actual, expected) ? null : String.format ("was [%s]", actual);
+		});
+	}
+
+	void verify () {
+		final String msg = "Verifying [%d] expectations on single snapshot...";
+		log.info (String.format (msg, this.expectations.size ()));
+		final ActivitySnapshot <D, E> snapshot = this.activity.snapshot ();
+		final List <String> mismatches = new ArrayList <> ();
+		for (final Function <ActivitySnapshot <D, E>, String> expectation : this.expectations) {
+			final String mismatch = expectation.apply (snapshot);
+			if (mismatch != null) {
+				mismatches.add (mismatch);
+			}
+		}
+		final String message = "[%d] of [%d] expectations failed";
+		assertWithMessage (String.format (message, mismatches.size (), this.expectations.size ())).that (mismatches)
+			.isEmpty ();
+	}
+
+	private ActivityVerify <D, E> expect (final String name, final String expected,
+			final Function <ActivitySnapshot <D, E>, String> check) {
+		this.expectations.add (s -> {
+			String mismatch;
+			try {
+				mismatch = check.apply (s);
+			}
+			catch (final AppiumServerStoppedError e) {
+				throw e;
+			}
+			catch (final CoteafsError e) {
+				mismatch = e.getMessage ();
+			}
+			return mismatch == null ? null
+					: String.format ("Element [%s] expected %s but %s", name, expected, mismatch);
+		});
+		return this;
+	}
+}
\ No newline at end of file
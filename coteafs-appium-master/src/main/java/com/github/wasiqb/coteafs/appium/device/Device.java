@@ -15,8 +15,6 @@
  */
 package com.github.wasiqb.coteafs.appium.device;
 
-import static com.github.wasiqb.coteafs.appium.constants.ConfigKeys.COTEAFS_CONFIG_DEFAULT_FILE;
-import static com.github.wasiqb.coteafs.appium.constants.ConfigKeys.COTEAFS_CONFIG_KEY;
 import static com.github.wasiqb.coteafs.appium.constants.ErrorMessage.SERVER_STOPPED;
 import static com.github.wasiqb.coteafs.appium.utils.CapabilityUtils.setCapability;
 import static com.github.wasiqb.coteafs.appium.utils.ErrorUtils.fail;
@@ -68,17 +66,23 @@ import java.io.File;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.Dimension;
 import org.openqa.selenium.NoSuchSessionException;
 import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.http.HttpClient;
 
 import com.github.wasiqb.coteafs.appium.checker.ServerChecker;
 import com.github.wasiqb.coteafs.appium.config.AndroidDeviceSetting;
-import com.github.wasiqb.coteafs.appium.config.AppiumSetting;
+import com.github.wasiqb.coteafs.appium.config.AppiumSettingCache;
 import com.github.wasiqb.coteafs.appium.config.ApplicationType;
 import com.github.wasiqb.coteafs.appium.config.DeviceSetting;
 import com.github.wasiqb.coteafs.appium.config.DeviceType;
@@ -92,7 +96,7 @@ import com.github.wasiqb.coteafs.appium.error.DeviceDriverInitializationFailedEr
 import com.github.wasiqb.coteafs.appium.error.DeviceDriverNotStartingError;
 import com.github.wasiqb.coteafs.appium.error.DeviceDriverNotStoppingError;
 import com.github.wasiqb.coteafs.appium.service.AppiumServer;
-import com.github.wasiqb.coteafs.config.loader.ConfigLoader;
+import com.github.wasiqb.coteafs.appium.service.AppiumServerPool;
 import com.google.common.reflect.TypeToken;
 
 import io.appium.java_client.AppiumDriver;
@@ -112,8 +116,14 @@ public class Device <D extends AppiumDriver <MobileElement>> {
 
 	protected DesiredCapabilities	capabilities;
 	protected D						driver;
-	protected final AppiumServer	server;
+	protected AppiumServer			server;
 	protected final DeviceSetting	setting;
+	private int						implicitWaitOff;
+	private long					latency;
+	private final String			name;
+	private volatile Dimension		screenSize;
+	private final AtomicLong		screenVersion;
+	private final AppiumServerPool	serverPool;
 
 	/**
 	 * @author wasiq.bhamla
@@ -122,12 +132,29 @@ public class Device <D extends AppiumDriver <MobileElement>> {
 	 * @since 13-Apr-2017 9:10:11 PM
 	 */
 	public Device (final AppiumServer server, final String name) {
+		this (server, null, name);
+	}
+
+	/**
+	 * Creates device whose driver sessions are created on the least loaded server of the pool. Server is
+	 * acquired on start and released with the measured command latency on stop.
+	 *
+	 * @author agent
+	 * @since Oct 18, 2026 12:31:32 AM
+	 * @param serverPool
+	 * @param name
+	 */
+	public Device (final AppiumServerPool serverPool, final String name) {
+		this (null, serverPool, name);
+	}
+
+	private Device (final AppiumServer server, final AppiumServerPool serverPool, final String name) {
 		this.server = server;
-		this.setting = ConfigLoader.settings ()
-			.withKey (COTEAFS_CONFIG_KEY)
-			.withDefault (COTEAFS_CONFIG_DEFAULT_FILE)
-			.load (AppiumSetting.class)
-			.getDevice (name);
+		this.serverPool = serverPool;
+		this.name = name;
+		this.latency = -1;
+		this.screenVersion = new AtomicLong ();
+		this.setting = AppiumSettingCache.device (name);
 		buildCapabilities ();
 	}
 
@@ -142,6 +169,15 @@ public class Device <D extends AppiumDriver <MobileElement>> {
 		return new DeviceActions <> (this);
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @return device name
+	 */
+	public String getName () {
+		return this.name;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since 01-May-2017 7:08:10 PM
@@ -154,6 +190,32 @@ public class Device <D extends AppiumDriver <MobileElement>> {
 		return this.driver;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:35 PM
+	 * @return screen size, fetched once per session and after every orientation change
+	 */
+	public Dimension getScreenSize () {
+		Dimension size = this.screenSize;
+		if (size == null) {
+			log.trace ("Getting device screen size...");
+			size = this.driver.manage ()
+				.window ()
+				.getSize ();
+			this.screenSize = size;
+		}
+		return size;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:40:37 PM
+	 * @return version of the screen, changes after every navigation type action
+	 */
+	public long getScreenVersion () {
+		return this.screenVersion.get ();
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Oct 9, 2017 4:36:02 PM
@@ -163,14 +225,74 @@ public class Device <D extends AppiumDriver <MobileElement>> {
 		return this.setting;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:40:37 PM
+	 */
+	public void screenChanged () {
+		this.screenVersion.incrementAndGet ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:35 PM
+	 */
+	public void screenResized () {
+		this.screenSize = null;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since 17-Apr-2017 4:46:12 PM
 	 */
+	@SuppressWarnings ("unchecked")
 	public void start () {
+		screenResized ();
+		if (this.serverPool != null) {
+			this.server = this.serverPool.acquire ();
+		}
 		final PlatformType platform = this.setting.getPlatformType ();
-		startDriver (platform);
-		setImplicitWait ();
+		try {
+			if (isPooled ()) {
+				this.driver = (D) pool ().lease (() -> createDriver (platform));
+			}
+			else {
+				createDriver (platform);
+			}
+			if (this.serverPool != null) {
+				measureLatency ();
+			}
+		}
+		catch (final RuntimeException e) {
+			if (this.serverPool != null) {
+				this.serverPool.release (this.server);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:35:12 PM
+	 * @return future which completes when driver is started
+	 */
+	public CompletableFuture <Void> startAsync () {
+		return startAsync (task -> {
+			final Thread thread = new Thread (task, String.format ("device-start-%s", this.name));
+			thread.setDaemon (true);
+			thread.start ();
+		});
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:35:12 PM
+	 * @param executor
+	 * @return future which completes when driver is started
+	 */
+	public CompletableFuture <Void> startAsync (final Executor executor) {
+		log.trace (String.format ("Starting [%s] device asynchronously...", this.name));
+		return CompletableFuture.runAsync (this::start, executor);
 	}
 
 	/**
@@ -180,8 +302,20 @@ public class Device <D extends AppiumDriver <MobileElement>> {
 	public void stop () {
 		final PlatformType platform = this.setting.getPlatformType ();
 		if (this.driver != null) {
-			quitApp (platform);
+			if (isPooled ()) {
+				final String message = "Returning [%s] device driver to session pool...";
+				log.trace (String.format (message, platform));
+				pool ().release (this.driver);
+			}
+			else {
+				quitApp (platform);
+			}
 			this.driver = null;
+			screenResized ();
+			if (this.serverPool != null) {
+				this.serverPool.release (this.server, this.latency);
+				this.latency = -1;
+			}
 		}
 		else {
 			final String message = "[%s] device driver already stopped...";
@@ -189,6 +323,28 @@ public class Device <D extends AppiumDriver <MobileElement>> {
 		}
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 11:08:47 PM
+	 * @param <T>
+	 * @param action
+	 * @return result of action, run with driver implicit wait turned off
+	 */
+	synchronized <T> T withoutImplicitWait (final Supplier <T> action) {
+		if (this.implicitWaitOff++ == 0) {
+			setImplicitWait (0);
+		}
+		try {
+			return action.get ();
+		}
+		finally {
+			if (--this.implicitWaitOff == 0) {
+				setImplicitWait (this.setting.getPlayback ()
+					.getDefaultWait ());
+			}
+		}
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since 13-Apr-2017 3:38:32 PM
@@ -225,6 +381,21 @@ public class Device <D extends AppiumDriver <MobileElement>> {
 		log.trace ("Building Device capabilities completed...");
 	}
 
+	private D createDriver (final PlatformType platform) {
+		startDriver (platform);
+		try {
+			setImplicitWait (this.setting.getPlayback ()
+				.getDefaultWait ());
+		}
+		catch (final RuntimeException e) {
+			final String msg = "Quitting [%s] device driver as its default wait could not be set...";
+			log.trace (String.format (msg, platform));
+			quitQuietly ();
+			throw e;
+		}
+		return this.driver;
+	}
+
 	@SuppressWarnings ("unchecked")
 	private D init (final URL url, final Capabilities capability) {
 		log.trace ("Initializing driver...");
@@ -232,8 +403,15 @@ public class Device <D extends AppiumDriver <MobileElement>> {
 			private static final long serialVersionUID = 1562415938665085306L;
 		};
 		final Class <D> cls = (Class <D>) token.getRawType ();
-		final Class <?> [] argTypes = new Class <?> [] { URL.class, Capabilities.class };
+		final HttpClient.Factory factory = this.server.getHttpClientFactory ();
 		try {
+			if (factory != null) {
+				final Class <?> [] argTypes = new Class <?> [] { URL.class, HttpClient.Factory.class,
+						Capabilities.class };
+				final Constructor <D> ctor = cls.getDeclaredConstructor (argTypes);
+				return ctor.newInstance (url, factory, capability);
+			}
+			final Class <?> [] argTypes = new Class <?> [] { URL.class, Capabilities.class };
 			final Constructor <D> ctor = cls.getDeclaredConstructor (argTypes);
 			return ctor.newInstance (url, capability);
 		}
@@ -244,6 +422,25 @@ public class Device <D extends AppiumDriver <MobileElement>> {
 		return null;
 	}
 
+	private boolean isPooled () {
+		return this.setting.getSessionPool () != null && this.setting.getSessionPool ()
+			.isEnabled ();
+	}
+
+	private void measureLatency () {
+		final long start = System.currentTimeMillis ();
+		setImplicitWait (this.setting.getPlayback ()
+			.getDefaultWait ());
+		this.latency = System.currentTimeMillis () - start;
+		final String msg = "Command latency of [%s] device on [%s] is [%d] ms...";
+		log.trace (String.format (msg, this.name, this.server.getServiceUrl (), this.latency));
+	}
+
+	private DeviceSessionPool pool () {
+		final String key = String.format ("%s@%s", this.name, this.server.getServiceUrl ());
+		return DeviceSessionPool.pool (key, this.setting.getSessionPool ());
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @param platform
@@ -264,6 +461,17 @@ public class Device <D extends AppiumDriver <MobileElement>> {
 		}
 	}
 
+	private void quitQuietly () {
+		try {
+			this.driver.quit ();
+		}
+		catch (final Exception e) {
+			log.warn ("Error occurred while quitting device driver...");
+			log.catching (e);
+		}
+		this.driver = null;
+	}
+
 	private void setAndroidCapabilities () {
 		final AndroidDeviceSetting android = this.setting.getAndroid ();
 		if (android != null) {
@@ -323,12 +531,11 @@ public class Device <D extends AppiumDriver <MobileElement>> {
 		}
 	}
 
-	private void setImplicitWait () {
+	private void setImplicitWait (final long seconds) {
 		try {
 			this.driver.manage ()
 				.timeouts ()
-				.implicitlyWait (this.setting.getPlayback ()
-					.getDefaultWait (), TimeUnit.SECONDS);
+				.implicitlyWait (seconds, TimeUnit.SECONDS);
 		}
 		catch (final NoSuchSessionException e) {
 			fail (AppiumServerStoppedError.class, SERVER_STOPPED, e);
@@ -29,16 +29,16 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.NoSuchSessionException;
 import org.openqa.selenium.OutputType;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.ScreenOrientation;
+import org.openqa.selenium.interactions.Sequence;
 
 import com.github.wasiqb.coteafs.appium.config.PlaybackSetting;
 import com.github.wasiqb.coteafs.appium.error.AppiumServerStoppedError;
+import com.github.wasiqb.coteafs.appium.utils.GestureUtils;
 import com.github.wasiqb.coteafs.appium.utils.SwipeUtils;
 
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.MobileElement;
-import io.appium.java_client.MultiTouchAction;
-import io.appium.java_client.TouchAction;
 
 /**
  * @author wasiq.bhamla
@@ -71,8 +71,7 @@ public class DeviceActions <D extends AppiumDriver <MobileElement>, E extends De
 
 	protected final E				device;
 	protected final D				driver;
-	protected final WebDriverWait	wait;
-	private final MultiTouchAction	multiTouch;
+	protected final DeviceWait		wait;
 	private final PlaybackSetting	setting;
 
 	/**
@@ -84,8 +83,7 @@ public class DeviceActions <D extends AppiumDriver <MobileElement>, E extends De
 		this.device = device;
 		this.driver = this.device.getDriver ();
 		this.setting = device.setting.getPlayback ();
-		this.wait = new WebDriverWait (this.driver, this.setting.getWaitForElementUntil ());
-		this.multiTouch = new MultiTouchAction (this.driver);
+		this.wait = new DeviceWait (this.driver, device.setting);
 	}
 
 	/**
@@ -124,6 +122,7 @@ public class DeviceActions <D extends AppiumDriver <MobileElement>, E extends De
 	public void navigateTo (final String url) {
 		log.info (format ("Navigating to URL [%S]...", url));
 		this.driver.get (url);
+		this.device.screenChanged ();
 	}
 
 	/**
@@ -137,6 +136,23 @@ public class DeviceActions <D extends AppiumDriver <MobileElement>, E extends De
 				distance);
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:35 PM
+	 * @param orientation
+	 */
+	public void rotate (final ScreenOrientation orientation) {
+		log.info (format ("Rotating device screen to [%s]...", orientation));
+		try {
+			this.driver.rotate (orientation);
+		}
+		catch (final NoSuchSessionException e) {
+			fail (AppiumServerStoppedError.class, SERVER_STOPPED, e);
+		}
+		this.device.screenResized ();
+		this.device.screenChanged ();
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Oct 20, 2017 7:52:29 PM
@@ -147,7 +163,9 @@ public class DeviceActions <D extends AppiumDriver <MobileElement>, E extends De
 	public void swipe (final SwipeDirection direction, final SwipeStartPosition start, final int distance) {
 		log.info (format ("Swiping [%s] on device screen by [%d] perc distance from [%s] of the screen...", direction,
 				distance, start));
-		swipeTo (direction, start, distance).perform ();
+		GestureUtils.perform (this.driver, swipeTo ("finger", direction, start, distance));
+		UiIdle.await (this.driver, this.setting, GestureUtils.swipeDelays (this.setting));
+		this.device.screenChanged ();
 	}
 
 	/**
@@ -180,15 +198,15 @@ public class DeviceActions <D extends AppiumDriver <MobileElement>, E extends De
 
 	private void doubleFingerGesture (final SwipeDirection finger1, final SwipeDirection finger2,
 			final SwipeStartPosition start1, final SwipeStartPosition start2, final int distancePercent) {
-		final TouchAction firstFinger = swipeTo (finger1, start1, distancePercent);
-		final TouchAction secondFinger = swipeTo (finger2, start2, distancePercent);
-		this.multiTouch.add (firstFinger)
-			.add (secondFinger)
-			.perform ();
+		final Sequence firstFinger = swipeTo ("finger1", finger1, start1, distancePercent);
+		final Sequence secondFinger = swipeTo ("finger2", finger2, start2, distancePercent);
+		GestureUtils.perform (this.driver, firstFinger, secondFinger);
+		UiIdle.await (this.driver, this.setting, GestureUtils.swipeDelays (this.setting));
 	}
 
-	private TouchAction swipeTo (final SwipeDirection direction, final SwipeStartPosition start,
+	private Sequence swipeTo (final String finger, final SwipeDirection direction, final SwipeStartPosition start,
 			final int distancePercent) {
-		return SwipeUtils.swipeTo (direction, start, distancePercent, this.setting, this.driver, null);
+		return SwipeUtils.swipeTo (finger, direction, start, distancePercent, this.setting,
+				this.device.getScreenSize (), null);
 	}
 }
\ No newline at end of file
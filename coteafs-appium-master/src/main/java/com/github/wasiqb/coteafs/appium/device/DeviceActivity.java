@@ -17,20 +17,23 @@ package com.github.wasiqb.coteafs.appium.device;
 
 import static com.github.wasiqb.coteafs.appium.constants.ErrorMessage.SERVER_STOPPED;
 import static com.github.wasiqb.coteafs.appium.utils.ErrorUtils.fail;
-import static org.openqa.selenium.support.ui.ExpectedConditions.visibilityOfAllElementsLocatedBy;
 
+import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.InvalidSelectorException;
 import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import com.github.wasiqb.coteafs.appium.checker.ServerChecker;
 import com.github.wasiqb.coteafs.appium.config.PlatformType;
@@ -51,16 +54,80 @@ import io.appium.java_client.MobileElement;
  * @since 26-Apr-2017 4:31:24 PM
  */
 public abstract class DeviceActivity <D extends AppiumDriver <MobileElement>, E extends Device <D>> {
+	private final class TreeElements extends AbstractMap <String, DeviceElement> {
+		@Override
+		public boolean containsKey (final Object key) {
+			return elements ().containsKey (key);
+		}
+
+		@Override
+		public Set <Entry <String, DeviceElement>> entrySet () {
+			return elements ().entrySet ();
+		}
+
+		@Override
+		public DeviceElement get (final Object key) {
+			return elements ().get (key);
+		}
+
+		private Map <String, DeviceElement> elements () {
+			load ();
+			return DeviceActivity.this.tree.elements ();
+		}
+	}
+
 	private static final Logger log;
 
 	static {
 		log = LogManager.getLogger (DeviceActivity.class);
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:48:35 PM
+	 * @param targets
+	 *            elements, can be from different activities of same device. Wait timeout and polling of the
+	 *            first target's activity is used for all the targets.
+	 * @return first target which matched its wait strategy, or null if none matched before timeout
+	 */
+	public static ElementTarget waitForAny (final ElementTarget... targets) {
+		if (targets.length == 0) {
+			return null;
+		}
+		final DeviceActivity <?, ?> first = targets [0].activity ();
+		try {
+			final ElementTarget match = first.device.withoutImplicitWait (() -> first.wait.until (d -> {
+				for (final ElementTarget target : targets) {
+					if (target.activity ()
+						.probe (target.name ()) != null) {
+						return target;
+					}
+				}
+				return null;
+			}));
+			final String msg = "Element [%s] matched first...";
+			log.trace (String.format (msg, match));
+			return match;
+		}
+		catch (final TimeoutException e) {
+			final String msg = "None of the elements %s matched...";
+			log.trace (String.format (msg, Arrays.toString (targets)));
+			return null;
+		}
+		catch (final NoSuchSessionException e) {
+			fail (AppiumServerStoppedError.class, SERVER_STOPPED, e);
+		}
+		return null;
+	}
+
 	protected final E							device;
 	protected final Map <String, DeviceElement>	deviceElements;
+	private final Map <String, MobileElement>	ancestors;
+	private long								ancestorsVersion;
+	private final ElementCache					cache;
 	private final PlaybackSetting				setting;
-	private final WebDriverWait					wait;
+	private ElementTree							tree;
+	private final DeviceWait					wait;
 
 	/**
 	 * @author wasiq.bhamla
@@ -69,10 +136,44 @@ public abstract class DeviceActivity <D extends AppiumDriver <MobileElement>, E
 	 */
 	public DeviceActivity (final E device) {
 		this.device = device;
-		this.deviceElements = new HashMap <> ();
+		this.deviceElements = new TreeElements ();
+		this.ancestors = new HashMap <> ();
 		this.setting = device.getSetting ()
 			.getPlayback ();
-		this.wait = new WebDriverWait (device.getDriver (), this.setting.getWaitForElementUntil ());
+		this.cache = new ElementCache (this.setting.getElementCacheTtl ());
+		this.wait = new DeviceWait (device.getDriver (), device.getSetting ());
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:10 PM
+	 * @param plan
+	 *            records the actions, which are performed once plan returns
+	 */
+	public void batch (final Consumer <ActionBatch <D, E>> plan) {
+		ServerChecker.checkServerRunning (this.device.server);
+		log.trace ("Recording batch of element actions...");
+		final ActionBatch <D, E> batch = new ActionBatch <> (this);
+		plan.accept (batch);
+		batch.flush ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:40:37 PM
+	 * @return element cache hits
+	 */
+	public long getCacheHits () {
+		return this.cache.hits ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:40:37 PM
+	 * @return element cache misses
+	 */
+	public long getCacheMisses () {
+		return this.cache.misses ();
 	}
 
 	/**
@@ -85,7 +186,17 @@ public abstract class DeviceActivity <D extends AppiumDriver <MobileElement>, E
 		load ();
 		final String msg = "Getting element with name [%s]...";
 		log.trace (String.format (msg, name));
-		return findElements (getDeviceElement (name));
+		final DeviceElement element = getDeviceElement (name);
+		return resolve (element, element.index ());
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @return wait used to find elements, with its timing metrics
+	 */
+	public DeviceWait getWait () {
+		return this.wait;
 	}
 
 	/**
@@ -108,7 +219,7 @@ public abstract class DeviceActivity <D extends AppiumDriver <MobileElement>, E
 		ServerChecker.checkServerRunning (this.device.server);
 		final String msg = "Preparing to perform actions on device element [%s]...";
 		log.trace (String.format (msg, name));
-		return new DeviceElementActions <> (this.device, name, getElement (name));
+		return prepareActions (name, e -> new DeviceElementActions <> (this.device, name, e));
 	}
 
 	/**
@@ -122,40 +233,176 @@ public abstract class DeviceActivity <D extends AppiumDriver <MobileElement>, E
 		ServerChecker.checkServerRunning (this.device.server);
 		final String msg = "Preparing to perform actions on dynamic device element [%s] on index [%d]...";
 		log.trace (String.format (msg, name, index));
-		final DeviceElement element = getDeviceElement (name).index (index);
-		return new DeviceElementActions <> (this.device, name, findElements (element));
+		return prepareActions (deviceElement (name), index, e -> new DeviceElementActions <> (this.device, name, e));
 	}
 
 	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:00 PM
+	 * @param name
+	 * @return all elements matching the device element, found with single lookup
+	 */
+	public ElementCollection <D, E> onElements (final String name) {
+		ServerChecker.checkServerRunning (this.device.server);
+		final String msg = "Preparing to perform actions on all device elements [%s]...";
+		log.trace (String.format (msg, name));
+		return new ElementCollection <> (this, name, findAll (name));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:59:15 PM
+	 * @param name
+	 * @param direction
+	 *            direction of the swipe, content moves the opposite way
+	 * @return actions on the element once it is scrolled into view
+	 */
+	public DeviceElementActions <D, E> scrollTo (final String name, final SwipeDirection direction) {
+		ServerChecker.checkServerRunning (this.device.server);
+		final String msg = "Scrolling to device element [%s] by swiping [%s]...";
+		log.info (String.format (msg, name, direction));
+		if (!new ScrollSearch <> (this, direction).find (deviceElement (name))) {
+			captureScreenshotOnError ();
+			final String message = "Device element [%s] not found after scrolling to end of the content.";
+			fail (DeviceElementNotFoundError.class, String.format (message, name));
+		}
+		return onElement (name);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @return snapshot of the activity, read-only queries are answered from single page source
+	 */
+	public ActivitySnapshot <D, E> snapshot () {
+		ServerChecker.checkServerRunning (this.device.server);
+		log.trace ("Taking page source snapshot of the activity...");
+		return new ActivitySnapshot <> (this);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:44 PM
+	 * @param expectations
+	 *            records the expectations, which are verified together once it returns
+	 */
+	public void verifyAll (final Consumer <ActivityVerify <D, E>> expectations) {
+		ServerChecker.checkServerRunning (this.device.server);
+		log.trace ("Recording expectations on activity elements...");
+		final ActivityVerify <D, E> verify = new ActivityVerify <> (this);
+		expectations.accept (verify);
+		verify.verify ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:48:35 PM
+	 * @param names
+	 * @return name of first element which matched its wait strategy, or null if none matched before
+	 *         timeout
+	 */
+	public String waitForAny (final String... names) {
+		final ElementTarget [] targets = new ElementTarget [names.length];
+		for (int i = 0; i < names.length; i++) {
+			targets [i] = ElementTarget.of (this, names [i]);
+		}
+		final ElementTarget match = waitForAny (targets);
+		return match == null ? null : match.name ();
+	}
+
+	/**
+	 * Prepares the element tree of the activity. It is called only once per activity class, platform and
+	 * locator optimization setting, and the tree is shared by all instances of the activity. So it must not
+	 * depend on the state of the instance, and the returned elements can not be changed afterwards.
+	 *
 	 * @author wasiq.bhamla
 	 * @return element
 	 * @since 02-May-2017 4:38:00 PM
 	 */
 	protected abstract DeviceElement prepare ();
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:40:37 PM
+	 * @param <T>
+	 * @param name
+	 * @param actions
+	 * @return element actions, retried once with fresh element if cached one was stale. Returned
+	 *         {@link DeviceElementActions} also find the element again once if it goes stale while
+	 *         performing an action.
+	 */
+	protected <T> T prepareActions (final String name, final Function <MobileElement, T> actions) {
+		final DeviceElement element = deviceElement (name);
+		return prepareActions (element, element.index (), actions);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @param name
+	 * @return device element
+	 */
+	DeviceElement deviceElement (final String name) {
+		load ();
+		return getDeviceElement (name);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:39:06 AM
+	 * @param name
+	 * @return all elements matching the device element, as found by the wait for its first element
+	 */
+	List <MobileElement> findAll (final String name) {
+		final DeviceElement element = deviceElement (name);
+		try {
+			return findAllInChain (element);
+		}
+		catch (final StaleElementReferenceException e) {
+			final String message = "Ancestor of [%s] is stale, finding whole parent chain again...";
+			log.trace (String.format (message, name));
+			this.ancestors.clear ();
+			return findAllInChain (element);
+		}
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:59:15 PM
+	 * @param name
+	 * @return element if it matches its wait strategy right now, else null. Driver implicit wait is turned
+	 *         off while probing.
+	 */
+	MobileElement probe (final String name) {
+		final DeviceElement element = deviceElement (name);
+		return this.device.withoutImplicitWait (() -> probe (element));
+	}
+
 	private void captureScreenshotOnError () {
 		if (this.setting.isScreenshotOnError ()) {
 			onDevice ().captureScreenshot ();
 		}
 	}
 
-	private MobileElement find (final D deviceDriver, final DeviceElement parent, final By locator, final int index,
-			final WaitStrategy strategy) {
+	private MobileElement ancestor (final DeviceElement element) {
+		final long version = this.device.getScreenVersion ();
+		if (version != this.ancestorsVersion) {
+			this.ancestors.clear ();
+			this.ancestorsVersion = version;
+		}
+		return this.ancestors.get (key (element));
+	}
+
+	private MobileElement find (final DeviceElement element, final int index, final MobileElement parentElement) {
+		return findAll (element, index, parentElement).get (index);
+	}
+
+	private List <MobileElement> findAll (final DeviceElement element, final int index,
+			final MobileElement parentElement) {
+		final DeviceElement parent = element.parent ();
+		final By locator = element.locator ();
 		try {
-			wait (locator, strategy);
-			List <MobileElement> result = null;
-			if (parent != null) {
-				final String message = "Finding child element of [%s] parent using [%s] at index [%d]...";
-				log.trace (String.format (message, parent.name (), locator, index));
-				final MobileElement mobileElement = getElement (parent.name ());
-				result = mobileElement.findElements (locator);
-			}
-			else {
-				final String message = "Finding root element using [%s] at index [%d]...";
-				log.trace (String.format (message, locator, index));
-				result = deviceDriver.findElements (locator);
-			}
-			return result.get (index);
+			return locate (element, index, parentElement);
 		}
 		catch (final TimeoutException e) {
 			captureScreenshotOnError ();
@@ -168,6 +415,9 @@ public abstract class DeviceActivity <D extends AppiumDriver <MobileElement>, E
 		catch (final InvalidSelectorException e) {
 			fail (AppiumSelectorNotImplementedError.class, "Selector not supported", e);
 		}
+		catch (final StaleElementReferenceException e) {
+			throw e;
+		}
 		catch (final Exception e) {
 			captureScreenshotOnError ();
 			String message = "";
@@ -183,12 +433,61 @@ public abstract class DeviceActivity <D extends AppiumDriver <MobileElement>, E
 		return null;
 	}
 
-	private MobileElement findElements (final DeviceElement element) {
+	private List <MobileElement> findAll (final MobileElement parentElement, final By locator) {
+		if (parentElement != null) {
+			return parentElement.findElements (locator);
+		}
+		return this.device.getDriver ()
+			.findElements (locator);
+	}
+
+	private List <MobileElement> findAllInChain (final DeviceElement element) {
 		final DeviceElement parent = element.parent ();
-		final By locator = element.locator ();
-		final int index = element.index ();
-		final WaitStrategy strategy = element.waitStrategy ();
-		return find (this.device.getDriver (), parent, locator, index, strategy);
+		MobileElement context = null;
+		if (parent != null) {
+			context = findInChain (parent, parent.index ());
+			this.ancestors.put (key (parent), context);
+		}
+		return findAll (element, 0, context);
+	}
+
+	private MobileElement findElements (final DeviceElement element, final int index) {
+		try {
+			return findInChain (element, index);
+		}
+		catch (final StaleElementReferenceException e) {
+			final String msg = "Ancestor of [%s] is stale, finding whole parent chain again...";
+			log.trace (String.format (msg, element.name ()));
+			this.ancestors.clear ();
+			return findInChain (element, index);
+		}
+	}
+
+	private MobileElement findInChain (final DeviceElement element, final int index) {
+		final List <DeviceElement> chain = this.tree.ancestors (element);
+		MobileElement context = null;
+		int level = chain.size ();
+		while (level > 0 && context == null) {
+			context = ancestor (chain.get (--level));
+		}
+		if (context != null) {
+			level++;
+		}
+		for (; level < chain.size (); level++) {
+			final DeviceElement current = chain.get (level);
+			context = find (current, current.index (), context);
+			this.ancestors.put (key (current), context);
+		}
+		return find (element, index, context);
+	}
+
+	private boolean findsFewer (final MobileElement parentElement, final By optimized, final By locator) {
+		try {
+			return findAll (parentElement, optimized).size () < findAll (parentElement, locator).size ();
+		}
+		catch (final InvalidSelectorException e) {
+			return true;
+		}
 	}
 
 	private DeviceElement getDeviceElement (final String name) {
@@ -200,44 +499,164 @@ public abstract class DeviceActivity <D extends AppiumDriver <MobileElement>, E
 		return null;
 	}
 
+	private void invalidate (final DeviceElement element, final int index) {
+		this.cache.invalidate (element.name (), index);
+	}
+
+	private String key (final DeviceElement element) {
+		return element.name () + "#" + element.index ();
+	}
+
 	private void load () {
-		if (this.deviceElements.size () == 0) {
+		if (this.tree == null) {
 			final PlatformType platform = this.device.setting.getPlatformType ();
 			final String msg = "Loading elements on [%s] activity...";
 			log.trace (String.format (msg, platform));
-			loadElements (prepare ());
+			this.tree = ElementTree.of (getClass (), platform, this.setting.isOptimizeLocators (), this::prepare);
 		}
 	}
 
-	private void loadElements (final DeviceElement rootElement) {
-		ServerChecker.checkServerRunning (this.device.server);
-		if (!this.deviceElements.containsKey (rootElement.name ())) {
-			this.deviceElements.put (rootElement.name (), rootElement);
+	private List <MobileElement> locate (final DeviceElement element, final int index,
+			final MobileElement parentElement) {
+		final By locator = element.locator ();
+		if (!this.setting.isOptimizeLocators ()) {
+			return locate (element, index, parentElement, locator);
+		}
+		final PlatformType platform = this.device.setting.getPlatformType ();
+		final By optimized = LocatorCompiler.compile (locator, platform);
+		if (optimized == locator) {
+			return locate (element, index, parentElement, locator);
+		}
+		try {
+			return locate (element, index, parentElement, optimized);
+		}
+		catch (final InvalidSelectorException e) {
+			LocatorCompiler.reject (locator, platform);
+		}
+		catch (final TimeoutException e) {
+			if (!this.device.withoutImplicitWait (() -> findsFewer (parentElement, optimized, locator))) {
+				throw e;
+			}
+			LocatorCompiler.reject (locator, platform);
 		}
-		final List <DeviceElement> childs = rootElement.childs ();
-		for (final DeviceElement child : childs) {
-			loadElements (child);
+		final String message = "Optimized locator [%s] finds fewer elements than [%s], using the original locator...";
+		log.trace (String.format (message, optimized, locator));
+		return locate (element, index, parentElement, locator);
+	}
+
+	private List <MobileElement> locate (final DeviceElement element, final int index,
+			final MobileElement parentElement, final By locator) {
+		final LocatorProfiler.Sample sample = this.setting.isProfileLocators ()
+				? LocatorProfiler.start (getClass (), element.name (), locator) : null;
+		boolean found = false;
+		try {
+			if (parentElement != null) {
+				final String message = "Finding child element of [%s] parent using [%s] at index [%d]...";
+				log.trace (String.format (message, element.parent ()
+					.name (), locator, index));
+			}
+			else {
+				final String message = "Finding root element using [%s] at index [%d]...";
+				log.trace (String.format (message, locator, index));
+			}
+			final List <MobileElement> located = this.wait.until (locator + "#" + index, d -> {
+				final long start = System.nanoTime ();
+				final List <MobileElement> result = findAll (parentElement, locator);
+				if (sample != null) {
+					sample.poll (System.nanoTime () - start, result.size ());
+				}
+				if (result.size () <= index) {
+					return null;
+				}
+				return matches (result.get (index), element.waitStrategy ()) ? result : null;
+			});
+			found = true;
+			return located;
+		}
+		finally {
+			if (sample != null) {
+				LocatorProfiler.record (sample, found);
+			}
 		}
 	}
 
 	/**
-	 * @author wasiq.bhamla
-	 * @since Jan 30, 2018 7:33:47 PM
-	 * @param locator
+	 * @author agent
+	 * @since Oct 17, 2026 10:41:41 PM
+	 * @param element
 	 * @param waitStrategy
+	 * @return true if element satisfies the wait strategy
 	 */
-	private void wait (final By locator, final WaitStrategy waitStrategy) {
-		switch (waitStrategy) {
-			case ENABLED:
-				this.wait.until (ExpectedConditions.elementToBeClickable (locator));
-				break;
-			case PRESENT:
-				this.wait.until (ExpectedConditions.presenceOfAllElementsLocatedBy (locator));
-				break;
-			case VISIBLE:
-			default:
-				this.wait.until (visibilityOfAllElementsLocatedBy (locator));
-				break;
+	private boolean matches (final MobileElement element, final WaitStrategy waitStrategy) {
+		try {
+			switch (waitStrategy) {
+				case ENABLED:
+					return element.isDisplayed () && element.isEnabled ();
+				case PRESENT:
+					return true;
+				case VISIBLE:
+				default:
+					return element.isDisplayed ();
+			}
+		}
+		catch (final StaleElementReferenceException e) {
+			return false;
+		}
+	}
+
+	private <T> T prepareActions (final DeviceElement element, final int index,
+			final Function <MobileElement, T> actions) {
+		T result;
+		try {
+			result = actions.apply (resolve (element, index));
+		}
+		catch (final StaleElementReferenceException e) {
+			final String msg = "Cached element [%s] is stale, finding it again...";
+			log.trace (String.format (msg, element.name ()));
+			invalidate (element, index);
+			result = actions.apply (resolve (element, index));
+		}
+		if (result instanceof DeviceElementActions) {
+			((DeviceElementActions <?, ?>) result).relocateWith (() -> {
+				invalidate (element, index);
+				return resolve (element, index);
+			});
+		}
+		return result;
+	}
+
+	private MobileElement probe (final DeviceElement element) {
+		try {
+			MobileElement context = null;
+			for (final DeviceElement current : this.tree.ancestors (element)) {
+				final List <MobileElement> result = findAll (context, current.locator ());
+				if (result.size () <= current.index ()) {
+					return null;
+				}
+				context = result.get (current.index ());
+			}
+			final List <MobileElement> result = findAll (context, element.locator ());
+			if (result.size () <= element.index ()) {
+				return null;
+			}
+			final MobileElement match = result.get (element.index ());
+			return matches (match, element.waitStrategy ()) ? match : null;
+		}
+		catch (final StaleElementReferenceException e) {
+			return null;
+		}
+	}
+
+	private MobileElement resolve (final DeviceElement element, final int index) {
+		if (!this.setting.isCacheElements ()) {
+			return findElements (element, index);
+		}
+		final long version = this.device.getScreenVersion ();
+		MobileElement result = this.cache.get (element.name (), index, version);
+		if (result == null) {
+			result = findElements (element, index);
+			this.cache.put (element.name (), index, result, version);
 		}
+		return result;
 	}
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
 package com.github.wasiqb.coteafs.appium.device;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.openqa.selenium.By;
@@ -37,6 +38,7 @@ public class DeviceElement {
 
 	private By							by;
 	private final List <DeviceElement>	childs;
+	private boolean						frozen;
 	private int							index;
 	private final String				name;
 	private DeviceElement				parent;
@@ -54,7 +56,7 @@ public class DeviceElement {
 	 * @return childs
 	 */
 	public List <DeviceElement> childs () {
-		return this.childs;
+		return this.frozen ? Collections.unmodifiableList (this.childs) : this.childs;
 	}
 
 	/**
@@ -73,6 +75,7 @@ public class DeviceElement {
 	 * @return instance
 	 */
 	public DeviceElement index (final int location) {
+		checkNotFrozen ();
 		this.index = location;
 		return this;
 	}
@@ -111,6 +114,7 @@ public class DeviceElement {
 	 * @return instance
 	 */
 	public DeviceElement parent (final DeviceElement elementParent) {
+		checkNotFrozen ();
 		if (this.parent == null) {
 			this.parent = elementParent;
 		}
@@ -148,6 +152,7 @@ public class DeviceElement {
 	 * @return instance
 	 */
 	public DeviceElement using (final By findBy) {
+		checkNotFrozen ();
 		this.by = findBy;
 		return this;
 	}
@@ -168,20 +173,39 @@ public class DeviceElement {
 	 * @return instance
 	 */
 	public DeviceElement waitStrategy (final WaitStrategy strategy) {
+		checkNotFrozen ();
 		this.wait = strategy;
 		return this;
 	}
 
+	/**
+	 * Makes element read-only once it is part of an element tree shared by all activity instances.
+	 *
+	 * @author agent
+	 * @since Oct 18, 2026 12:25:42 AM
+	 */
+	void freeze () {
+		this.frozen = true;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since 25-Apr-2017 7:48:31 PM
 	 * @param androidElement
 	 */
 	private void addChild (final DeviceElement child) {
+		checkNotFrozen ();
 		this.childs.add (child);
 		if (child.parent () == null || !child.parent ()
 			.equals (this)) {
 			child.parent (this);
 		}
 	}
+
+	private void checkNotFrozen () {
+		if (this.frozen) {
+			final String msg = "DeviceElement [%s] is shared by all activity instances and can not be changed.";
+			throw new UnsupportedOperationException (String.format (msg, this.name));
+		}
+	}
 }
\ No newline at end of file
@@ -17,24 +17,27 @@ package com.github.wasiqb.coteafs.appium.device;
 
 import static com.github.wasiqb.coteafs.appium.constants.ErrorMessage.SERVER_STOPPED;
 import static com.github.wasiqb.coteafs.appium.utils.ErrorUtils.fail;
-import static java.time.Duration.ofSeconds;
 
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.interactions.Sequence;
 
 import com.github.wasiqb.coteafs.appium.checker.DeviceChecker;
+import com.github.wasiqb.coteafs.appium.config.ApplicationType;
 import com.github.wasiqb.coteafs.appium.config.PlaybackSetting;
 import com.github.wasiqb.coteafs.appium.error.AppiumServerStoppedError;
+import com.github.wasiqb.coteafs.appium.utils.GestureUtils;
 import com.github.wasiqb.coteafs.appium.utils.SwipeUtils;
 
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.MobileElement;
-import io.appium.java_client.MultiTouchAction;
-import io.appium.java_client.TouchAction;
 
 /**
  * @author wasiq.bhamla
@@ -49,15 +52,14 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 		log = LogManager.getLogger (DeviceElementActions.class);
 	}
 
-	private final int				afterTap;
-	private final int				beforeTap;
-	private final E					device;
-	private final D					driver;
-	private final MobileElement		element;
-	private final MultiTouchAction	multiTouch;
-	private final String			name;
-	private final PlaybackSetting	setting;
-	private final TouchAction		touch;
+	private final E						device;
+	private final D						driver;
+	private MobileElement				element;
+	private final String				name;
+	private Supplier <MobileElement>	relocator;
+	private final PlaybackSetting		setting;
+	private ElementState				state;
+	private final TextEntry				textEntry;
 
 	/**
 	 * @author wasiq.bhamla
@@ -71,13 +73,13 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 		this.name = name;
 		this.element = element;
 		this.driver = this.device.getDriver ();
-		this.touch = new TouchAction (this.driver);
-		this.multiTouch = new MultiTouchAction (this.driver);
 		this.setting = device.getSetting ()
 			.getPlayback ();
-		DeviceChecker.checkDeviceElementDisplayed (element, name);
-		this.beforeTap = this.setting.getDelayBeforeTap ();
-		this.afterTap = this.setting.getDelayAfterTap ();
+		this.state = state (element);
+		this.textEntry = new TextEntry (device);
+		if (!this.setting.isTrustElementState ()) {
+			DeviceChecker.checkDeviceElementDisplayed (this.state.displayed (), name);
+		}
 	}
 
 	/**
@@ -86,9 +88,10 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 	 * @param text
 	 */
 	public void appendText (final String text) {
-		tap ();
 		final String actionType = String.format ("Appending text [%s] in", text);
-		perform (actionType, e -> e.sendKeys (text));
+		perform (actionType, e -> this.textEntry.enter (e, text, true, this::tapOn));
+		settle (GestureUtils.tapDelays (this.setting));
+		this.device.screenChanged ();
 	}
 
 	/**
@@ -105,12 +108,12 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 	 */
 	public void click () {
 		perform ("Clicking on", e -> {
-			this.touch.waitAction (ofSeconds (this.beforeTap))
-				.perform ();
+			GestureUtils.pause (GestureUtils.delayBeforeTap (this.setting));
 			e.click ();
-			this.touch.waitAction (ofSeconds (this.afterTap))
-				.perform ();
+			GestureUtils.pause (GestureUtils.delayAfterTap (this.setting));
 		});
+		settle (GestureUtils.tapDelays (this.setting));
+		this.device.screenChanged ();
 	}
 
 	/**
@@ -119,8 +122,10 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 	 * @param dropElement
 	 */
 	public void dragDrop (final MobileElement dropElement) {
-		perform ("Performing drag on", e -> SwipeUtils.dragTo (this.driver, this.setting, e, dropElement)
-			.perform ());
+		perform ("Performing drag on", e -> GestureUtils.perform (this.driver,
+				SwipeUtils.dragTo (this.setting, this.state.rect (), dropElement.getRect ())));
+		settle (GestureUtils.swipeDelays (this.setting));
+		this.device.screenChanged ();
 	}
 
 	/**
@@ -129,7 +134,7 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 	 * @return enabled
 	 */
 	public boolean enabled () {
-		return getValue ("Checking if element [%s] is enabled...", MobileElement::isEnabled);
+		return getValue ("Checking if element [%s] is enabled...", e -> this.state.enabled ());
 	}
 
 	/**
@@ -138,10 +143,10 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 	 * @param text
 	 */
 	public void enterText (final String text) {
-		tap ();
-		clear ();
 		final String actionType = String.format ("Entering text [%s] in", text);
-		perform (actionType, e -> e.sendKeys (text));
+		perform (actionType, e -> this.textEntry.enter (e, text, false, this::tapOn));
+		settle (GestureUtils.tapDelays (this.setting));
+		this.device.screenChanged ();
 	}
 
 	/**
@@ -167,10 +172,10 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 	 * @since 26-Apr-2017 8:54:58 PM
 	 */
 	public void longPress () {
-		perform ("Performing long press on", e -> this.touch.waitAction (ofSeconds (this.beforeTap))
-			.longPress (e)
-			.waitAction (ofSeconds (this.afterTap))
-			.perform ());
+		perform ("Performing long press on", e -> GestureUtils.longPress (this.driver, this.setting,
+				GestureUtils.center (this.state.rect ())));
+		settle (GestureUtils.tapDelays (this.setting));
+		this.device.screenChanged ();
 	}
 
 	/**
@@ -181,6 +186,16 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 	public void pinch (final int distance) {
 		perform ("Pinching on", e -> doubleFingerGesture (SwipeDirection.DOWN, SwipeDirection.UP,
 				SwipeStartPosition.TOP, SwipeStartPosition.BOTTOM, distance));
+		settle (GestureUtils.swipeDelays (this.setting));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:49:36 PM
+	 * @return location and size of element
+	 */
+	public Rectangle rect () {
+		return getValue ("Getting location and size of element [%s]...", e -> this.state.rect ());
 	}
 
 	/**
@@ -189,7 +204,7 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 	 * @return selected
 	 */
 	public boolean selected () {
-		return getValue ("Checking if element [%s] is selected...", MobileElement::isSelected);
+		return getValue ("Checking if element [%s] is selected...", e -> this.state.selected ());
 	}
 
 	/**
@@ -198,6 +213,7 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 	 */
 	public void submit () {
 		perform ("Performing submit", MobileElement::submit);
+		this.device.screenChanged ();
 	}
 
 	/**
@@ -208,11 +224,9 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 	 * @param distance
 	 */
 	public void swipe (final SwipeDirection direction, final SwipeStartPosition start, final int distance) {
-		perform ("Swiping on", e -> {
-			swipeTo (direction, start, distance).perform ();
-			this.touch.waitAction (ofSeconds (this.setting.getDelayAfterSwipe ()))
-				.perform ();
-		});
+		perform ("Swiping on", e -> GestureUtils.perform (this.driver, swipeTo ("finger", direction, start, distance)));
+		settle (GestureUtils.swipeDelays (this.setting));
+		this.device.screenChanged ();
 	}
 
 	/**
@@ -220,10 +234,9 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 	 * @since 12-May-2017 10:08:55 PM
 	 */
 	public void tap () {
-		perform ("Tapping on", e -> this.touch.waitAction (ofSeconds (this.beforeTap))
-			.tap (e)
-			.waitAction (ofSeconds (this.afterTap))
-			.perform ());
+		perform ("Tapping on", e -> tapOn ());
+		settle (GestureUtils.tapDelays (this.setting));
+		this.device.screenChanged ();
 	}
 
 	/**
@@ -250,7 +263,7 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 	 * @return visible
 	 */
 	public boolean visible () {
-		return getValue ("Checking if element [%s] is visible...", MobileElement::isDisplayed);
+		return getValue ("Checking if element [%s] is visible...", e -> this.state.displayed ());
 	}
 
 	/**
@@ -261,25 +274,44 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 	public void zoom (final int distance) {
 		perform ("Zooming on", e -> doubleFingerGesture (SwipeDirection.UP, SwipeDirection.DOWN,
 				SwipeStartPosition.CENTER, SwipeStartPosition.CENTER, distance));
+		settle (GestureUtils.swipeDelays (this.setting));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 11:11:38 PM
+	 * @param relocator
+	 *            finds the element again when it goes stale while performing an action
+	 * @return instance
+	 */
+	DeviceElementActions <D, E> relocateWith (final Supplier <MobileElement> relocator) {
+		this.relocator = relocator;
+		return this;
 	}
 
 	private void checkElementEnabled () {
-		DeviceChecker.checkDeviceElementEnabled (this.element, this.name);
+		if (!this.setting.isTrustElementState ()) {
+			DeviceChecker.checkDeviceElementEnabled (this.state.enabled (), this.name);
+		}
 	}
 
 	private void doubleFingerGesture (final SwipeDirection finger1, final SwipeDirection finger2,
 			final SwipeStartPosition start1, final SwipeStartPosition start2, final int distancePercent) {
-		final TouchAction firstFinger = swipeTo (finger1, start1, distancePercent);
-		final TouchAction secondFinger = swipeTo (finger2, start2, distancePercent);
-		this.multiTouch.add (firstFinger)
-			.add (secondFinger)
-			.perform ();
+		final Sequence firstFinger = swipeTo ("finger1", finger1, start1, distancePercent);
+		final Sequence secondFinger = swipeTo ("finger2", finger2, start2, distancePercent);
+		GestureUtils.perform (this.driver, firstFinger, secondFinger);
 	}
 
 	private <R> R getValue (final String message, final Function <MobileElement, R> func) {
 		log.info (String.format (message, this.name));
 		try {
-			return func.apply (this.element);
+			try {
+				return func.apply (this.element);
+			}
+			catch (final StaleElementReferenceException e) {
+				relocate (e);
+				return func.apply (this.element);
+			}
 		}
 		catch (final NoSuchSessionException e) {
 			fail (AppiumServerStoppedError.class, SERVER_STOPPED, e);
@@ -291,15 +323,48 @@ public class DeviceElementActions <D extends AppiumDriver <MobileElement>, E ext
 		checkElementEnabled ();
 		log.info (String.format ("%s element [%s]...", action, this.name));
 		try {
-			consumer.accept (this.element);
+			try {
+				consumer.accept (this.element);
+			}
+			catch (final StaleElementReferenceException e) {
+				relocate (e);
+				consumer.accept (this.element);
+			}
 		}
 		catch (final NoSuchSessionException e) {
 			fail (AppiumServerStoppedError.class, SERVER_STOPPED, e);
 		}
+		finally {
+			this.state.invalidate ();
+		}
+	}
+
+	private void relocate (final StaleElementReferenceException cause) {
+		if (this.relocator == null) {
+			throw cause;
+		}
+		final String msg = "Element [%s] went stale, finding it again...";
+		log.trace (String.format (msg, this.name));
+		this.element = this.relocator.get ();
+		this.state = state (this.element);
+	}
+
+	private void settle (final long bound) {
+		UiIdle.await (this.driver, this.setting, bound);
+	}
+
+	private ElementState state (final MobileElement target) {
+		return new ElementState (this.driver, target, this.device.getSetting ()
+			.getAppType () == ApplicationType.WEB);
 	}
 
-	private TouchAction swipeTo (final SwipeDirection direction, final SwipeStartPosition start,
+	private Sequence swipeTo (final String finger, final SwipeDirection direction, final SwipeStartPosition start,
 			final int distancePercent) {
-		return SwipeUtils.swipeTo (direction, start, distancePercent, this.setting, this.driver, this.element);
+		return SwipeUtils.swipeTo (finger, direction, start, distancePercent, this.setting,
+				this.device.getScreenSize (), this.state.rect ());
+	}
+
+	private void tapOn () {
+		GestureUtils.perform (this.driver, GestureUtils.tap ("finger", this.setting, this.state.element ()));
 	}
 }
\ No newline at end of file
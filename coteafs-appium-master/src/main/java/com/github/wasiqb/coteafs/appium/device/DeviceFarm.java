@@ -0,0 +1,340 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.github.wasiqb.coteafs.appium.utils.ErrorUtils.fail;
+import static java.lang.String.format;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import com.github.wasiqb.coteafs.appium.config.AppiumSettingCache;
+import com.github.wasiqb.coteafs.appium.error.DeviceDriverNotStartingError;
+import com.github.wasiqb.coteafs.appium.error.DeviceLeaseInterruptedError;
+
+/**
+ * Hands out exclusive device leases to parallel test workers. Waiting workers are served in arrival order and
+ * each affinity key gets the device it used last time when that device is free, so warm sessions are reused.
+ * Leases remember the TestNG test or configuration method which took them, and {@link DeviceFarmListener} gives
+ * them back when that test fails or its test context finishes. Leases of dead threads and leases held longer
+ * than the max hold time are reclaimed too.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:36:07 PM
+ */
+public final class DeviceFarm {
+	private static final class Waiter {
+		private final String		affinity;
+		private DeviceLease			lease;
+		private final Thread		owner;
+		private final ITestResult	test;
+
+		private Waiter (final String affinity, final Thread owner, final ITestResult test) {
+			this.affinity = affinity;
+			this.owner = owner;
+			this.test = test;
+		}
+	}
+
+	private static final Set <DeviceFarm>	farms;
+	private static final Logger				log;
+
+	static {
+		log = LogManager.getLogger (DeviceFarm.class);
+		farms = Collections.synchronizedSet (Collections.newSetFromMap (new WeakHashMap <> ()));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:07 PM
+	 * @param maxHoldSeconds
+	 * @return farm of all the devices in config
+	 */
+	public static DeviceFarm create (final int maxHoldSeconds) {
+		return create (AppiumSettingCache.settings ()
+			.getDevices ()
+			.keySet (), maxHoldSeconds);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:07 PM
+	 * @param devices
+	 * @param maxHoldSeconds
+	 * @return farm of given devices
+	 */
+	public static DeviceFarm create (final Collection <String> devices, final int maxHoldSeconds) {
+		final DeviceFarm farm = new DeviceFarm (devices, maxHoldSeconds);
+		farms.add (farm);
+		return farm;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:41:26 AM
+	 * @param context
+	 * @return number of leases reclaimed from all farms
+	 */
+	public static int reclaimAll (final ITestContext context) {
+		int reclaimed = 0;
+		for (final DeviceFarm farm : farms ()) {
+			reclaimed += farm.reclaim (context);
+		}
+		return reclaimed;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:41:26 AM
+	 * @param test
+	 * @return number of leases reclaimed from all farms
+	 */
+	public static int reclaimAll (final ITestResult test) {
+		int reclaimed = 0;
+		for (final DeviceFarm farm : farms ()) {
+			reclaimed += farm.reclaim (test);
+		}
+		return reclaimed;
+	}
+
+	private static List <DeviceFarm> farms () {
+		synchronized (farms) {
+			return new ArrayList <> (farms);
+		}
+	}
+
+	private final Map <String, String>		affinities;
+	private final Condition					changed;
+	private final Set <String>				free;
+	private final Map <String, DeviceLease>	leases;
+	private final ReentrantLock				lock;
+	private final long						maxHold;
+	private final Deque <Waiter>			waiters;
+
+	private DeviceFarm (final Collection <String> devices, final int maxHoldSeconds) {
+		this.free = new LinkedHashSet <> (devices);
+		this.leases = new HashMap <> ();
+		this.affinities = new HashMap <> ();
+		this.waiters = new ArrayDeque <> ();
+		this.lock = new ReentrantLock (true);
+		this.changed = this.lock.newCondition ();
+		this.maxHold = TimeUnit.SECONDS.toMillis (maxHoldSeconds);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:07 PM
+	 * @param affinity
+	 * @param timeoutSeconds
+	 * @return lease
+	 */
+	public DeviceLease lease (final String affinity, final int timeoutSeconds) {
+		final long deadline = System.nanoTime () + TimeUnit.SECONDS.toNanos (timeoutSeconds);
+		final Waiter waiter = new Waiter (affinity, Thread.currentThread (), Reporter.getCurrentTestResult ());
+		this.lock.lock ();
+		try {
+			this.waiters.addLast (waiter);
+			while (true) {
+				reclaimExpired ();
+				assign ();
+				if (waiter.lease != null) {
+					log.trace (format ("Leased device [%s] for [%s]...", waiter.lease.device (), affinity));
+					return waiter.lease;
+				}
+				final long remaining = deadline - System.nanoTime ();
+				if (remaining <= 0) {
+					this.waiters.remove (waiter);
+					break;
+				}
+				this.changed.awaitNanos (remaining);
+			}
+		}
+		catch (final InterruptedException e) {
+			this.waiters.remove (waiter);
+			if (waiter.lease != null) {
+				free (waiter.lease);
+			}
+			Thread.currentThread ()
+				.interrupt ();
+			final String msg = "Interrupted while waiting for device for [%s].";
+			fail (DeviceLeaseInterruptedError.class, format (msg, affinity), e);
+		}
+		finally {
+			this.lock.unlock ();
+		}
+		final String msg = "No device available for [%s] within [%d] seconds.";
+		fail (DeviceDriverNotStartingError.class, format (msg, affinity, timeoutSeconds));
+		return null;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:07 PM
+	 * @param owner
+	 * @return number of leases reclaimed
+	 */
+	public int reclaim (final Thread owner) {
+		return reclaim (lease -> lease.owner () == owner, owner.getName ());
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:41:26 AM
+	 * @param context
+	 * @return number of leases taken by tests and configuration methods of the context which were reclaimed
+	 */
+	public int reclaim (final ITestContext context) {
+		return reclaim (lease -> lease.test () != null && lease.test ()
+			.getTestContext () == context, context.getName ());
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:41:26 AM
+	 * @param test
+	 * @return number of leases taken by the test which were reclaimed
+	 */
+	public int reclaim (final ITestResult test) {
+		return reclaim (lease -> lease.test () == test, test.getName ());
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:07 PM
+	 * @param lease
+	 */
+	void release (final DeviceLease lease) {
+		this.lock.lock ();
+		try {
+			if (this.leases.get (lease.device ()) == lease) {
+				log.trace (format ("Releasing device [%s]...", lease.device ()));
+				free (lease);
+			}
+		}
+		finally {
+			this.lock.unlock ();
+		}
+	}
+
+	private void assign () {
+		boolean assigned = false;
+		for (final Waiter waiter : this.waiters) {
+			if (this.free.isEmpty ()) {
+				break;
+			}
+			if (waiter.lease != null) {
+				continue;
+			}
+			String device = this.affinities.get (waiter.affinity);
+			if (device == null || !this.free.contains (device)) {
+				device = unclaimedDevice ();
+			}
+			this.free.remove (device);
+			waiter.lease = new DeviceLease (this, device, waiter.owner, waiter.test);
+			this.leases.put (device, waiter.lease);
+			this.affinities.put (waiter.affinity, device);
+			assigned = true;
+		}
+		if (assigned) {
+			final Iterator <Waiter> iterator = this.waiters.iterator ();
+			while (iterator.hasNext ()) {
+				if (iterator.next ().lease != null) {
+					iterator.remove ();
+				}
+			}
+			this.changed.signalAll ();
+		}
+	}
+
+	private void free (final DeviceLease lease) {
+		this.leases.remove (lease.device ());
+		this.free.add (lease.device ());
+		this.changed.signalAll ();
+	}
+
+	private int reclaim (final Predicate <DeviceLease> owned, final String owner) {
+		this.lock.lock ();
+		try {
+			final List <DeviceLease> reclaimed = new ArrayList <> ();
+			for (final DeviceLease lease : this.leases.values ()) {
+				if (owned.test (lease)) {
+					reclaimed.add (lease);
+				}
+			}
+			for (final DeviceLease lease : reclaimed) {
+				log.warn (format ("Reclaiming device [%s] from [%s]...", lease.device (), owner));
+				free (lease);
+			}
+			return reclaimed.size ();
+		}
+		finally {
+			this.lock.unlock ();
+		}
+	}
+
+	private void reclaimExpired () {
+		final long now = System.currentTimeMillis ();
+		final List <DeviceLease> expired = new ArrayList <> ();
+		for (final DeviceLease lease : this.leases.values ()) {
+			final boolean timedOut = this.maxHold > 0 && now - lease.acquired () > this.maxHold;
+			if (!lease.owner ()
+				.isAlive () || timedOut) {
+				expired.add (lease);
+			}
+		}
+		for (final DeviceLease lease : expired) {
+			log.warn (format ("Reclaiming device [%s] from crashed or stuck lease...", lease.device ()));
+			free (lease);
+		}
+	}
+
+	private String unclaimedDevice () {
+		for (final String device : this.free) {
+			boolean claimed = false;
+			for (final Waiter waiter : this.waiters) {
+				if (waiter.lease == null && device.equals (this.affinities.get (waiter.affinity))) {
+					claimed = true;
+					break;
+				}
+			}
+			if (!claimed) {
+				return device;
+			}
+		}
+		return this.free.iterator ()
+			.next ();
+	}
+}
\ No newline at end of file
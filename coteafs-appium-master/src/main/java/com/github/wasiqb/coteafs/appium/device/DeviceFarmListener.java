@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Gives back the devices leased by a failed test, and the devices still leased by any test or
+ * configuration method when its test context finishes, so that leases do not outlive the tests on
+ * pooled worker threads. Registered with TestNG through service loader.
+ *
+ * @author agent
+ * @since Oct 18, 2026 12:41:06 AM
+ */
+public class DeviceFarmListener implements ITestListener {
+	/*
+	 * (non-Javadoc)
+	 * @see org.testng.ITestListener#onFinish(org.testng.ITestContext)
+	 */
+	@Override
+	public void onFinish (final ITestContext context) {
+		DeviceFarm.reclaimAll (context);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.testng.ITestListener#onStart(org.testng.ITestContext)
+	 */
+	@Override
+	public void onStart (final ITestContext context) {
+		// Nothing to do.
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.testng.ITestListener#onTestFailedButWithinSuccessPercentage(org.testng.ITestResult)
+	 */
+	@Override
+	public void onTestFailedButWithinSuccessPercentage (final ITestResult result) {
+		DeviceFarm.reclaimAll (result);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.testng.ITestListener#onTestFailure(org.testng.ITestResult)
+	 */
+	@Override
+	public void onTestFailure (final ITestResult result) {
+		DeviceFarm.reclaimAll (result);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.testng.ITestListener#onTestSkipped(org.testng.ITestResult)
+	 */
+	@Override
+	public void onTestSkipped (final ITestResult result) {
+		// Nothing to do.
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.testng.ITestListener#onTestStart(org.testng.ITestResult)
+	 */
+	@Override
+	public void onTestStart (final ITestResult result) {
+		// Nothing to do.
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.testng.ITestListener#onTestSuccess(org.testng.ITestResult)
+	 */
+	@Override
+	public void onTestSuccess (final ITestResult result) {
+		// Nothing to do.
+	}
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import org.testng.ITestResult;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:36:07 PM
+ */
+public final class DeviceLease implements AutoCloseable {
+	private final long			acquired;
+	private final String		device;
+	private final DeviceFarm	farm;
+	private final Thread		owner;
+	private final ITestResult	test;
+
+	DeviceLease (final DeviceFarm farm, final String device, final Thread owner, final ITestResult test) {
+		this.farm = farm;
+		this.device = device;
+		this.owner = owner;
+		this.test = test;
+		this.acquired = System.currentTimeMillis ();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.AutoCloseable#close()
+	 */
+	@Override
+	public void close () {
+		this.farm.release (this);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:07 PM
+	 * @return device name
+	 */
+	public String device () {
+		return this.device;
+	}
+
+	long acquired () {
+		return this.acquired;
+	}
+
+	Thread owner () {
+		return this.owner;
+	}
+
+	ITestResult test () {
+		return this.test;
+	}
+}
\ No newline at end of file
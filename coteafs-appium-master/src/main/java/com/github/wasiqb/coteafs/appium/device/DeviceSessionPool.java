@@ -0,0 +1,283 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.github.wasiqb.coteafs.appium.utils.ErrorUtils.fail;
+import static java.lang.String.format;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.github.wasiqb.coteafs.appium.config.ResetPolicy;
+import com.github.wasiqb.coteafs.appium.config.SessionPoolSetting;
+import com.github.wasiqb.coteafs.appium.error.DeviceDriverNotStartingError;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.MobileElement;
+
+/**
+ * Keeps live driver sessions per device key so that they can be leased again instead of creating new
+ * session every time.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:34:23 PM
+ */
+public final class DeviceSessionPool {
+	private static final class PooledSession {
+		private final AppiumDriver <MobileElement>	driver;
+		private final long							lastUsed;
+
+		private PooledSession (final AppiumDriver <MobileElement> driver) {
+			this.driver = driver;
+			this.lastUsed = System.currentTimeMillis ();
+		}
+	}
+
+	private static final int								EVICT_INTERVAL	= 30;
+	private static final ScheduledExecutorService			evictor;
+	private static final Logger								log;
+	private static final Map <String, DeviceSessionPool>	pools;
+
+	static {
+		log = LogManager.getLogger (DeviceSessionPool.class);
+		pools = new ConcurrentHashMap <> ();
+		evictor = Executors.newSingleThreadScheduledExecutor (r -> {
+			final Thread thread = new Thread (r, "session-pool-evictor");
+			thread.setDaemon (true);
+			return thread;
+		});
+		evictor.scheduleWithFixedDelay (DeviceSessionPool::evictAll, EVICT_INTERVAL, EVICT_INTERVAL,
+			TimeUnit.SECONDS);
+		Runtime.getRuntime ()
+			.addShutdownHook (new Thread (DeviceSessionPool::shutdown));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 */
+	public static void shutdown () {
+		for (final DeviceSessionPool pool : pools.values ()) {
+			pool.close ();
+		}
+		pools.clear ();
+	}
+
+	static DeviceSessionPool pool (final String key, final SessionPoolSetting setting) {
+		return pools.computeIfAbsent (key, k -> new DeviceSessionPool (k, setting));
+	}
+
+	private static void evictAll () {
+		for (final DeviceSessionPool pool : pools.values ()) {
+			try {
+				pool.evictIdle ();
+			}
+			catch (final Exception e) {
+				log.warn ("Error occurred while evicting idle sessions...");
+				log.catching (e);
+			}
+		}
+	}
+
+	private static void quit (final List <AppiumDriver <MobileElement>> drivers) {
+		for (final AppiumDriver <MobileElement> driver : drivers) {
+			quit (driver);
+		}
+	}
+
+	private static void quit (final AppiumDriver <MobileElement> driver) {
+		try {
+			driver.quit ();
+		}
+		catch (final Exception e) {
+			log.warn ("Error occurred while quitting pooled session...");
+			log.catching (e);
+		}
+	}
+
+	private final Deque <PooledSession>					idle;
+	private final String								key;
+	private final Set <AppiumDriver <MobileElement>>	leased;
+	private final Semaphore								permits;
+	private final SessionPoolSetting					setting;
+
+	private DeviceSessionPool (final String key, final SessionPoolSetting setting) {
+		this.key = key;
+		this.setting = setting;
+		this.idle = new ArrayDeque <> ();
+		this.leased = ConcurrentHashMap.newKeySet ();
+		this.permits = new Semaphore (Math.max (1, setting.getMaxSessions ()), true);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @param driver
+	 */
+	void discard (final AppiumDriver <MobileElement> driver) {
+		log.trace (format ("Discarding session from [%s] pool...", this.key));
+		this.leased.remove (driver);
+		quit (driver);
+		this.permits.release ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @param factory
+	 * @return driver
+	 */
+	AppiumDriver <MobileElement> lease (final Supplier <AppiumDriver <MobileElement>> factory) {
+		acquire ();
+		evictIdle ();
+		AppiumDriver <MobileElement> driver = null;
+		while ((driver = pollIdle ()) != null) {
+			if (isHealthy (driver)) {
+				log.trace (format ("Leased existing session from [%s] pool...", this.key));
+				this.leased.add (driver);
+				return driver;
+			}
+			quit (driver);
+		}
+		log.trace (format ("Creating new session for [%s] pool...", this.key));
+		try {
+			driver = factory.get ();
+			this.leased.add (driver);
+			return driver;
+		}
+		catch (final RuntimeException e) {
+			this.permits.release ();
+			throw e;
+		}
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:34:23 PM
+	 * @param driver
+	 */
+	void release (final AppiumDriver <MobileElement> driver) {
+		this.leased.remove (driver);
+		try {
+			reset (driver, this.setting.getResetPolicy ());
+		}
+		catch (final Exception e) {
+			log.warn (format ("Error occurred while resetting session of [%s] pool...", this.key));
+			log.catching (e);
+			discard (driver);
+			return;
+		}
+		synchronized (this.idle) {
+			this.idle.push (new PooledSession (driver));
+		}
+		log.trace (format ("Session returned to [%s] pool...", this.key));
+		this.permits.release ();
+		evictIdle ();
+	}
+
+	private void acquire () {
+		final int timeout = this.setting.getLeaseTimeout ();
+		boolean acquired = false;
+		try {
+			acquired = this.permits.tryAcquire (timeout, TimeUnit.SECONDS);
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread ()
+				.interrupt ();
+		}
+		if (!acquired) {
+			final String msg = "No session available in [%s] pool within [%d] seconds.";
+			fail (DeviceDriverNotStartingError.class, format (msg, this.key, timeout));
+		}
+	}
+
+	private void close () {
+		final List <AppiumDriver <MobileElement>> drivers = new ArrayList <> (this.leased);
+		this.leased.clear ();
+		synchronized (this.idle) {
+			for (final PooledSession session : this.idle) {
+				drivers.add (session.driver);
+			}
+			this.idle.clear ();
+		}
+		quit (drivers);
+	}
+
+	private void evictIdle () {
+		final long expiry = System.currentTimeMillis () - TimeUnit.SECONDS.toMillis (this.setting.getIdleTimeout ());
+		final List <AppiumDriver <MobileElement>> expired = new ArrayList <> ();
+		synchronized (this.idle) {
+			final Iterator <PooledSession> sessions = this.idle.iterator ();
+			while (sessions.hasNext ()) {
+				final PooledSession session = sessions.next ();
+				if (session.lastUsed < expiry) {
+					sessions.remove ();
+					expired.add (session.driver);
+				}
+			}
+		}
+		if (!expired.isEmpty ()) {
+			log.trace (format ("Evicting [%d] idle sessions from [%s] pool...", expired.size (), this.key));
+			quit (expired);
+		}
+	}
+
+	private boolean isHealthy (final AppiumDriver <MobileElement> driver) {
+		try {
+			return driver.getSessionId () != null && driver.getSessionDetails () != null;
+		}
+		catch (final Exception e) {
+			log.warn (format ("Pooled session of [%s] pool is not healthy...", this.key));
+			return false;
+		}
+	}
+
+	private AppiumDriver <MobileElement> pollIdle () {
+		synchronized (this.idle) {
+			final PooledSession session = this.idle.poll ();
+			return session == null ? null : session.driver;
+		}
+	}
+
+	private void reset (final AppiumDriver <MobileElement> driver, final ResetPolicy policy) {
+		switch (policy) {
+			case RESET_APP:
+				driver.resetApp ();
+				break;
+			case RELAUNCH_APP:
+				driver.closeApp ();
+				driver.launchApp ();
+				break;
+			case NONE:
+			default:
+				break;
+		}
+	}
+}
\ No newline at end of file
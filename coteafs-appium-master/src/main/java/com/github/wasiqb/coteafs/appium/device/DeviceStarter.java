@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.github.wasiqb.coteafs.appium.utils.ErrorUtils.fail;
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.github.wasiqb.coteafs.appium.error.DeviceDriverNotStartingError;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:35:12 PM
+ */
+public final class DeviceStarter {
+	private static final Logger log;
+
+	static {
+		log = LogManager.getLogger (DeviceStarter.class);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:35:12 PM
+	 * @param parallel
+	 * @param devices
+	 */
+	public static void startAll (final int parallel, final Device <?>... devices) {
+		startAll (parallel, Arrays.asList (devices));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:35:12 PM
+	 * @param parallel
+	 * @param devices
+	 */
+	public static void startAll (final int parallel, final List <? extends Device <?>> devices) {
+		if (devices.isEmpty ()) {
+			return;
+		}
+		final int threads = Math.max (1, Math.min (parallel, devices.size ()));
+		log.trace (format ("Starting [%d] devices on [%d] threads...", devices.size (), threads));
+		final AtomicInteger counter = new AtomicInteger ();
+		final ExecutorService executor = Executors.newFixedThreadPool (threads, task -> {
+			final Thread thread = new Thread (task, format ("device-start-%d", counter.incrementAndGet ()));
+			thread.setDaemon (true);
+			return thread;
+		});
+		try {
+			final List <CompletableFuture <Void>> futures = new ArrayList <> ();
+			for (final Device <?> device : devices) {
+				futures.add (device.startAsync (executor));
+			}
+			final List <Device <?>> started = new ArrayList <> ();
+			final StringBuilder errors = new StringBuilder ();
+			Throwable cause = null;
+			for (int i = 0; i < futures.size (); i++) {
+				final Device <?> device = devices.get (i);
+				try {
+					futures.get (i)
+						.join ();
+					started.add (device);
+				}
+				catch (final CompletionException e) {
+					final Throwable error = e.getCause () != null ? e.getCause () : e;
+					if (cause == null) {
+						cause = error;
+					}
+					errors.append (format ("%n\t[%s]: %s", device.getName (), error.getMessage ()));
+				}
+			}
+			if (cause != null) {
+				stopAll (started);
+				final String msg = "Error occured while starting [%d] of [%d] devices:%s";
+				fail (DeviceDriverNotStartingError.class,
+						format (msg, devices.size () - started.size (), devices.size (), errors), cause);
+			}
+		}
+		finally {
+			executor.shutdown ();
+		}
+	}
+
+	private static void stopAll (final List <Device <?>> devices) {
+		for (final Device <?> device : devices) {
+			try {
+				device.stop ();
+			}
+			catch (final Exception e) {
+				log.warn (format ("Error occurred while stopping [%s] device...", device.getName ()));
+				log.catching (e);
+			}
+		}
+	}
+
+	private DeviceStarter () {
+		// Utility class.
+	}
+}
\ No newline at end of file
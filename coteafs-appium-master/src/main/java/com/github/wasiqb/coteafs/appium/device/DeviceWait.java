@@ -0,0 +1,349 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import com.github.wasiqb.coteafs.appium.config.DeviceSetting;
+import com.github.wasiqb.coteafs.appium.config.PlaybackSetting;
+
+/**
+ * Wait which polls with exponential backoff and jitter, and learns how long each keyed condition
+ * usually takes on the device to choose its first poll delay. Timeout, polling interval, ignored
+ * errors and message set with {@link FluentWait} methods are honoured. Invalid selector errors are
+ * never retried.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:44:32 PM
+ */
+public class DeviceWait extends WebDriverWait {
+	private static final Map <String, Long>	learned;
+	private static final Logger				log;
+
+	static {
+		log = LogManager.getLogger (DeviceWait.class);
+		learned = new ConcurrentHashMap <> ();
+	}
+
+	private final double						backoff;
+	private final WebDriver						driver;
+	private List <Class <? extends Throwable>>	ignored;
+	private long								initialInterval;
+	private final double						jitter;
+	private long								lastPolls;
+	private long								lastWaitTime;
+	private long								maxInterval;
+	private Supplier <String>					message;
+	private final String						scope;
+	private long								timeout;
+	private long								totalWaitTime;
+	private long								waits;
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @param driver
+	 * @param setting
+	 *            device setting, its playback setting is used for the wait, and its platform and device
+	 *            name scope the learned wait times
+	 */
+	public DeviceWait (final WebDriver driver, final DeviceSetting setting) {
+		super (driver, setting.getPlayback ()
+			.getWaitForElementUntil ());
+		final PlaybackSetting playback = setting.getPlayback ();
+		this.driver = driver;
+		this.scope = String.format ("%s/%s/%s", setting.getPlatformType (), setting.getDeviceName (),
+				setting.getUdid ());
+		this.timeout = playback.getWaitForElementUntil () * 1000L;
+		this.initialInterval = Math.max (1, playback.getPollingInterval ());
+		this.maxInterval = Math.max (this.initialInterval, playback.getMaxPollingInterval ());
+		this.backoff = Math.max (1, playback.getPollingBackoff ());
+		this.jitter = Math.max (0, Math.min (1, playback.getPollingJitter ()));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @return number of polls done by last wait
+	 */
+	public synchronized long getLastPolls () {
+		return this.lastPolls;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @return time in millis taken by last wait
+	 */
+	public synchronized long getLastWaitTime () {
+		return this.lastWaitTime;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @return total time in millis spent in waits
+	 */
+	public synchronized long getTotalWaitTime () {
+		return this.totalWaitTime;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @return number of waits done
+	 */
+	public synchronized long getWaits () {
+		return this.waits;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openqa.selenium.support.ui.FluentWait#ignoreAll(java.util.Collection)
+	 */
+	@Override
+	public <K extends Throwable> FluentWait <WebDriver> ignoreAll (final Collection <Class <? extends K>> types) {
+		ignored ().addAll (types);
+		return super.ignoreAll (types);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openqa.selenium.support.ui.FluentWait#ignoring(java.lang.Class)
+	 */
+	@Override
+	public FluentWait <WebDriver> ignoring (final Class <? extends Throwable> exceptionType) {
+		ignored ().add (exceptionType);
+		return super.ignoring (exceptionType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openqa.selenium.support.ui.FluentWait#ignoring(java.lang.Class, java.lang.Class)
+	 */
+	@Override
+	public FluentWait <WebDriver> ignoring (final Class <? extends Throwable> firstType,
+			final Class <? extends Throwable> secondType) {
+		ignored ().add (firstType);
+		ignored ().add (secondType);
+		return super.ignoring (firstType, secondType);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:37:17 AM
+	 * @param key
+	 * @return learned time in millis the condition usually takes on this device, or -1 if not known yet
+	 */
+	public long learnedTime (final String key) {
+		final Long time = learned.get (scoped (key));
+		return time == null ? -1 : time;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openqa.selenium.support.ui.FluentWait#pollingEvery(java.time.Duration)
+	 */
+	@Override
+	public FluentWait <WebDriver> pollingEvery (final Duration interval) {
+		this.initialInterval = Math.max (1, interval.toMillis ());
+		this.maxInterval = Math.max (this.initialInterval, this.maxInterval);
+		return super.pollingEvery (interval);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openqa.selenium.support.ui.FluentWait#pollingEvery(long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public FluentWait <WebDriver> pollingEvery (final long duration, final TimeUnit unit) {
+		return pollingEvery (Duration.ofMillis (unit.toMillis (duration)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openqa.selenium.support.ui.FluentWait#until(java.util.function.Function)
+	 */
+	@Override
+	public <V> V until (final Function <? super WebDriver, V> isTrue) {
+		return until (null, isTrue);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 * @param key
+	 *            key of condition whose usual wait time will be learned, can be null
+	 * @param isTrue
+	 *            condition, only ignored errors thrown by it are retried, so by default stale element
+	 *            errors are passed to the caller so it can find the element again
+	 * @param <V>
+	 * @return value of condition
+	 */
+	public <V> V until (final String key, final Function <? super WebDriver, V> isTrue) {
+		final long start = System.currentTimeMillis ();
+		final long end = start + this.timeout;
+		final long expected = key == null ? -1 : learnedTime (key);
+		long interval = this.initialInterval;
+		int polls = 0;
+		Throwable lastError = null;
+		while (true) {
+			polls++;
+			try {
+				final V value = isTrue.apply (this.driver);
+				if (value != null && (Boolean.class != value.getClass () || Boolean.TRUE.equals (value))) {
+					done (key, start, polls, true);
+					return value;
+				}
+			}
+			catch (final RuntimeException | Error e) {
+				if (e instanceof InvalidSelectorException || !isIgnored (e)) {
+					throw e;
+				}
+				lastError = e;
+			}
+			final long now = System.currentTimeMillis ();
+			if (now >= end) {
+				done (key, start, polls, false);
+				throw timeoutException (message (key != null ? key : isTrue, now - start, polls), lastError);
+			}
+			long delay = interval;
+			if (polls == 1 && expected > 0) {
+				delay = Math.max (interval, expected - (now - start));
+			}
+			else {
+				interval = Math.min (this.maxInterval, (long) (interval * this.backoff));
+			}
+			sleep (Math.min (jitter (delay), end - now));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openqa.selenium.support.ui.FluentWait#withMessage(java.lang.String)
+	 */
+	@Override
+	public FluentWait <WebDriver> withMessage (final String message) {
+		return withMessage (() -> message);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openqa.selenium.support.ui.FluentWait#withMessage(java.util.function.Supplier)
+	 */
+	@Override
+	public FluentWait <WebDriver> withMessage (final Supplier <String> messageSupplier) {
+		this.message = messageSupplier;
+		return super.withMessage (messageSupplier);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openqa.selenium.support.ui.FluentWait#withTimeout(java.time.Duration)
+	 */
+	@Override
+	public FluentWait <WebDriver> withTimeout (final Duration duration) {
+		this.timeout = duration.toMillis ();
+		return super.withTimeout (duration);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openqa.selenium.support.ui.FluentWait#withTimeout(long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public FluentWait <WebDriver> withTimeout (final long duration, final TimeUnit unit) {
+		return withTimeout (Duration.ofMillis (unit.toMillis (duration)));
+	}
+
+	private synchronized void done (final String key, final long start, final int polls, final boolean success) {
+		final long elapsed = System.currentTimeMillis () - start;
+		this.lastPolls = polls;
+		this.lastWaitTime = elapsed;
+		this.totalWaitTime += elapsed;
+		this.waits++;
+		if (success && key != null) {
+			learned.merge (scoped (key), elapsed, (old, time) -> (old * 3 + time) / 4);
+		}
+		final String msg = "Wait for [%s] took [%d] ms with [%d] polls...";
+		log.trace (String.format (msg, key, elapsed, polls));
+	}
+
+	private List <Class <? extends Throwable>> ignored () {
+		// Called by super constructor before fields of this class are initialized.
+		if (this.ignored == null) {
+			this.ignored = new ArrayList <> ();
+		}
+		return this.ignored;
+	}
+
+	private boolean isIgnored (final Throwable error) {
+		for (final Class <? extends Throwable> type : ignored ()) {
+			if (type.isInstance (error)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private long jitter (final long delay) {
+		if (this.jitter == 0) {
+			return delay;
+		}
+		final double factor = ThreadLocalRandom.current ()
+			.nextDouble (-this.jitter, this.jitter);
+		return Math.max (1, (long) (delay * (1 + factor)));
+	}
+
+	private String message (final Object condition, final long elapsed, final int polls) {
+		final String msg = "Condition [%s] not satisfied after [%d] ms with [%d] polls.";
+		final String reason = String.format (msg, condition, elapsed, polls);
+		final String custom = this.message == null ? null : this.message.get ();
+		return custom == null ? reason : String.format ("%s (%s)", custom, reason);
+	}
+
+	private String scoped (final String key) {
+		return String.format ("%s#%s", this.scope, key);
+	}
+
+	private void sleep (final long delay) {
+		try {
+			Thread.sleep (delay);
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread ()
+				.interrupt ();
+			throw new WebDriverException (e);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.appium.java_client.MobileElement;
+
+/**
+ * Resolved element references of an activity keyed by element name and index.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:40:37 PM
+ */
+final class ElementCache {
+	private static final class Entry {
+		private final long			created;
+		private final MobileElement	element;
+		private final long			version;
+
+		private Entry (final MobileElement element, final long version) {
+			this.element = element;
+			this.version = version;
+			this.created = System.currentTimeMillis ();
+		}
+	}
+
+	private static String key (final String name, final int index) {
+		return name + "#" + index;
+	}
+
+	private final Map <String, Entry>	entries;
+	private final LongAdder				hits;
+	private final LongAdder				misses;
+	private final long					ttl;
+
+	ElementCache (final long ttl) {
+		this.ttl = ttl;
+		this.entries = new ConcurrentHashMap <> ();
+		this.hits = new LongAdder ();
+		this.misses = new LongAdder ();
+	}
+
+	MobileElement get (final String name, final int index, final long version) {
+		final String key = key (name, index);
+		final Entry entry = this.entries.get (key);
+		if (entry != null && entry.version == version && System.currentTimeMillis () - entry.created <= this.ttl) {
+			this.hits.increment ();
+			return entry.element;
+		}
+		if (entry != null) {
+			this.entries.remove (key, entry);
+		}
+		this.misses.increment ();
+		return null;
+	}
+
+	long hits () {
+		return this.hits.sum ();
+	}
+
+	void invalidate (final String name, final int index) {
+		this.entries.remove (key (name, index));
+	}
+
+	void invalidateAll () {
+		this.entries.clear ();
+	}
+
+	long misses () {
+		return this.misses.sum ();
+	}
+
+	void put (final String name, final int index, final MobileElement element, final long version) {
+		this.entries.put (key (name, index), new Entry (element, version));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,323 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.github.wasiqb.coteafs.appium.constants.ErrorMessage.SERVER_STOPPED;
+import static com.github.wasiqb.coteafs.appium.utils.ErrorUtils.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import com.github.wasiqb.coteafs.appium.config.ApplicationType;
+import com.github.wasiqb.coteafs.appium.device.PageSnapshot.Node;
+import com.github.wasiqb.coteafs.appium.error.AppiumServerStoppedError;
+import com.github.wasiqb.coteafs.appium.error.DeviceElementNotFoundError;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.MobileElement;
+
+/**
+ * All elements matching a device element, found with a single locator lookup. Texts, attributes
+ * and rects of all the elements are read together, with one script call in web context or from
+ * one page source snapshot otherwise, falling back to reading each element from the device. The
+ * snapshot is used only when it has as many nodes as the elements found, and the first and last
+ * nodes are at the same place as the first and last elements. A filtered collection remembers the
+ * positions of its elements among all the matching elements so that it can still be read from the
+ * page source snapshot. Elements which went stale are found again once.
+ *
+ * @author agent
+ * @param <D>
+ * @param <E>
+ * @since Oct 17, 2026 10:57:00 PM
+ */
+public class ElementCollection <D extends AppiumDriver <MobileElement>, E extends Device <D>> {
+	private static final String	ATTRIBUTES	= "var a = arguments[1]; "
+			+ "return arguments[0].map(function (e) { return e.getAttribute(a); });";
+	private static final String	RECTS		= "return arguments[0].map(function (e) { "
+			+ "var r = e.getBoundingClientRect(); return {x: r.left, y: r.top, width: r.width, height: r.height}; });";
+	private static final String	TEXTS		= "return arguments[0].map(function (e) { return e.innerText; });";
+	private static final Logger	log;
+
+	static {
+		log = LogManager.getLogger (ElementCollection.class);
+	}
+
+	private static int number (final Map <?, ?> values, final String key) {
+		return ((Number) values.get (key)).intValue ();
+	}
+
+	private static Rectangle rect (final Object value) {
+		final Map <?, ?> values = (Map <?, ?>) value;
+		return new Rectangle (number (values, "x"), number (values, "y"), number (values, "height"),
+				number (values, "width"));
+	}
+
+	private final DeviceActivity <D, E>	activity;
+	private List <MobileElement>		elements;
+	private final int []				indices;
+	private final String				name;
+	private ActivitySnapshot <D, E>		snapshot;
+	private boolean						snapshotMatches;
+	private long						snapshotVersion;
+	private List <String>				texts;
+	private final int					total;
+	private long						version;
+
+	ElementCollection (final DeviceActivity <D, E> activity, final String name,
+			final List <MobileElement> elements) {
+		this (activity, name, elements, elements.size (), null);
+	}
+
+	private ElementCollection (final DeviceActivity <D, E> activity, final String name,
+			final List <MobileElement> elements, final int total, final int [] indices) {
+		this.activity = activity;
+		this.name = name;
+		this.elements = Collections.unmodifiableList (elements);
+		this.total = total;
+		this.indices = indices;
+		this.version = activity.device.getScreenVersion ();
+		this.snapshotVersion = -1;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:00 PM
+	 * @param attribute
+	 * @return attribute value of all elements
+	 */
+	public List <String> attributes (final String attribute) {
+		return read ("attribute " + attribute, (s, n) -> n.attribute (attribute), e -> e.getAttribute (attribute),
+				ATTRIBUTES, attribute, String.class::cast);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:00 PM
+	 * @param textFilter
+	 * @return elements whose text matches the filter
+	 */
+	public ElementCollection <D, E> filter (final Predicate <String> textFilter) {
+		final List <String> values = texts ();
+		final List <MobileElement> result = new ArrayList <> ();
+		final List <String> resultTexts = new ArrayList <> ();
+		final int [] positions = new int [values.size ()];
+		for (int i = 0; i < values.size (); i++) {
+			if (textFilter.test (values.get (i))) {
+				positions [result.size ()] = this.indices == null ? i : this.indices [i];
+				result.add (this.elements.get (i));
+				resultTexts.add (values.get (i));
+			}
+		}
+		final ElementCollection <D, E> filtered = new ElementCollection <> (this.activity, this.name, result,
+				this.total, Arrays.copyOf (positions, result.size ()));
+		filtered.texts = resultTexts;
+		return filtered;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:00 PM
+	 * @param index
+	 * @return actions on element at index
+	 */
+	public DeviceElementActions <D, E> get (final int index) {
+		return new DeviceElementActions <> (this.activity.device, this.name, this.elements.get (index));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:00 PM
+	 * @param textFilter
+	 * @return index of first element whose text matches the filter, -1 if none matched
+	 */
+	public int indexOf (final Predicate <String> textFilter) {
+		final List <String> values = texts ();
+		for (int i = 0; i < values.size (); i++) {
+			if (textFilter.test (values.get (i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:00 PM
+	 * @return location and size of all elements
+	 */
+	public List <Rectangle> rects () {
+		return read ("rect", PageSnapshot::rect, MobileElement::getRect, RECTS, null, ElementCollection::rect);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:00 PM
+	 * @return number of elements
+	 */
+	public int size () {
+		return this.elements.size ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:00 PM
+	 * @return actions on each element, created as they are consumed
+	 */
+	public Stream <DeviceElementActions <D, E>> stream () {
+		return IntStream.range (0, this.elements.size ())
+			.mapToObj (this::get);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:00 PM
+	 * @param textFilter
+	 */
+	public void tap (final Predicate <String> textFilter) {
+		final int index = indexOf (textFilter);
+		if (index < 0) {
+			final String msg = "None of the [%d] elements [%s] matched the text filter.";
+			fail (DeviceElementNotFoundError.class, String.format (msg, this.elements.size (), this.name));
+		}
+		get (index).tap ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:00 PM
+	 * @return text of all elements
+	 */
+	public List <String> texts () {
+		final long current = this.activity.device.getScreenVersion ();
+		if (this.texts == null || this.version != current) {
+			this.texts = read ("text", PageSnapshot::text, MobileElement::getText, TEXTS, null, String.class::cast);
+			this.version = current;
+		}
+		return this.texts;
+	}
+
+	private boolean isWeb () {
+		return this.activity.device.getSetting ()
+			.getAppType () == ApplicationType.WEB;
+	}
+
+	private int position (final int index) {
+		return this.indices == null ? index : this.indices [index];
+	}
+
+	private <T> List <T> read (final String what, final BiFunction <PageSnapshot, Node, T> local,
+			final Function <MobileElement, T> live, final String script, final String argument,
+			final Function <Object, T> scriptValue) {
+		final String msg = "Reading %s of [%d] elements [%s]...";
+		log.info (String.format (msg, what, this.elements.size (), this.name));
+		if (this.elements.isEmpty ()) {
+			return Collections.emptyList ();
+		}
+		try {
+			return readValues (local, live, script, argument, scriptValue);
+		}
+		catch (final StaleElementReferenceException e) {
+			final String message = "Elements [%s] went stale, finding them again...";
+			log.trace (String.format (message, this.name));
+			relocate ();
+			return readValues (local, live, script, argument, scriptValue);
+		}
+	}
+
+	private <T> List <T> readValues (final BiFunction <PageSnapshot, Node, T> local,
+			final Function <MobileElement, T> live, final String script, final String argument,
+			final Function <Object, T> scriptValue) {
+		try {
+			if (isWeb ()) {
+				final List <?> values = (List <?>) this.activity.device.getDriver ()
+					.executeScript (script, this.elements, argument);
+				final List <T> result = new ArrayList <> ();
+				for (final Object value : values) {
+					result.add (scriptValue.apply (value));
+				}
+				return result;
+			}
+			if (this.snapshot == null) {
+				this.snapshot = this.activity.snapshot ();
+			}
+			if (snapshotMatches ()) {
+				final List <T> values = this.snapshot.queryAll (this.name, local, this.total, this.indices);
+				if (values != null) {
+					return values;
+				}
+			}
+			log.trace ("Elements not available in page source snapshot, reading each from device...");
+			final List <T> result = new ArrayList <> ();
+			for (final MobileElement element : this.elements) {
+				result.add (live.apply (element));
+			}
+			return result;
+		}
+		catch (final NoSuchSessionException e) {
+			fail (AppiumServerStoppedError.class, SERVER_STOPPED, e);
+		}
+		return null;
+	}
+
+	private void relocate () {
+		final List <MobileElement> all = this.activity.findAll (this.name);
+		if (all.size () != this.total) {
+			final String msg = "Found [%d] elements [%s] again instead of [%d], elements changed.";
+			fail (DeviceElementNotFoundError.class, String.format (msg, all.size (), this.name, this.total));
+		}
+		final List <MobileElement> result = new ArrayList <> ();
+		for (int i = 0; i < this.elements.size (); i++) {
+			result.add (all.get (position (i)));
+		}
+		this.elements = Collections.unmodifiableList (result);
+		this.snapshotVersion = -1;
+	}
+
+	private boolean sameRect (final Rectangle rect, final int index) {
+		return rect.equals (this.elements.get (index)
+			.getRect ());
+	}
+
+	private boolean snapshotMatches () {
+		final long current = this.activity.device.getScreenVersion ();
+		if (this.snapshotVersion != current) {
+			final int last = this.elements.size () - 1;
+			final List <Rectangle> rects = this.snapshot.queryAll (this.name, PageSnapshot::rect, this.total,
+					new int [] { position (0), position (last) });
+			this.snapshotMatches = rects != null && sameRect (rects.get (0), 0) && sameRect (rects.get (1), last);
+			this.snapshotVersion = current;
+			if (!this.snapshotMatches) {
+				final String msg = "Page source snapshot does not match elements [%s]...";
+				log.trace (String.format (msg, this.name));
+			}
+		}
+		return this.snapshotMatches;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import java.util.Map;
+
+import org.openqa.selenium.Rectangle;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.MobileElement;
+
+/**
+ * State of an element fetched once and reused until it is invalidated. In web context all of the
+ * state is fetched with a single script call, in native context each state is fetched lazily. Taps
+ * are aimed at the element itself, so they do not need its rect.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:49:36 PM
+ */
+final class ElementState {
+	private static final String SCRIPT = "var e = arguments[0], r = e.getBoundingClientRect(), "
+			+ "s = window.getComputedStyle(e); return {displayed: r.width > 0 && r.height > 0 && "
+			+ "s.visibility !== 'hidden' && s.display !== 'none', enabled: !e.disabled, "
+			+ "selected: !!(e.selected || e.checked), x: r.left, y: r.top, width: r.width, height: r.height};";
+
+	private static int number (final Map <?, ?> values, final String key) {
+		return ((Number) values.get (key)).intValue ();
+	}
+
+	private Boolean								displayed;
+	private final AppiumDriver <MobileElement>	driver;
+	private final MobileElement					element;
+	private Boolean								enabled;
+	private Rectangle							rect;
+	private Boolean								selected;
+	private final boolean						web;
+
+	ElementState (final AppiumDriver <MobileElement> driver, final MobileElement element, final boolean web) {
+		this.driver = driver;
+		this.element = element;
+		this.web = web;
+	}
+
+	boolean displayed () {
+		if (this.displayed == null) {
+			if (this.web) {
+				fetch ();
+			}
+			else {
+				this.displayed = this.element.isDisplayed ();
+			}
+		}
+		return this.displayed;
+	}
+
+	MobileElement element () {
+		return this.element;
+	}
+
+	boolean enabled () {
+		if (this.enabled == null) {
+			if (this.web) {
+				fetch ();
+			}
+			else {
+				this.enabled = this.element.isEnabled ();
+			}
+		}
+		return this.enabled;
+	}
+
+	void invalidate () {
+		this.displayed = null;
+		this.enabled = null;
+		this.selected = null;
+		this.rect = null;
+	}
+
+	Rectangle rect () {
+		if (this.rect == null) {
+			if (this.web) {
+				fetch ();
+			}
+			else {
+				this.rect = this.element.getRect ();
+			}
+		}
+		return this.rect;
+	}
+
+	boolean selected () {
+		if (this.selected == null) {
+			if (this.web) {
+				fetch ();
+			}
+			else {
+				this.selected = this.element.isSelected ();
+			}
+		}
+		return this.selected;
+	}
+
+	private void fetch () {
+		final Map <?, ?> values = (Map <?, ?>) this.driver.executeScript (SCRIPT, this.element);
+		this.displayed = (Boolean) values.get ("displayed");
+		this.enabled = (Boolean) values.get ("enabled");
+		this.selected = (Boolean) values.get ("selected");
+		this.rect = new Rectangle (number (values, "x"), number (values, "y"), number (values, "height"),
+				number (values, "width"));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:48:35 PM
+ */
+public final class ElementTarget {
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:48:35 PM
+	 * @param activity
+	 * @param name
+	 * @return instance
+	 */
+	public static ElementTarget of (final DeviceActivity <?, ?> activity, final String name) {
+		return new ElementTarget (activity, name);
+	}
+
+	private final DeviceActivity <?, ?>	activity;
+	private final String				name;
+
+	private ElementTarget (final DeviceActivity <?, ?> activity, final String name) {
+		this.activity = activity;
+		this.name = name;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:48:35 PM
+	 * @return activity
+	 */
+	public DeviceActivity <?, ?> activity () {
+		return this.activity;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:48:35 PM
+	 * @return element name
+	 */
+	public String name () {
+		return this.name;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString () {
+		return String.format ("%s#%s", this.activity.getClass ()
+			.getSimpleName (), this.name);
+	}
+}
\ No newline at end of file
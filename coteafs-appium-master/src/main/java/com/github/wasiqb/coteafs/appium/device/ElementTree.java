@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.github.wasiqb.coteafs.appium.config.PlatformType;
+
+/**
+ * Read-only index of an activity's element tree, built once per activity class, platform and locator
+ * optimization setting and shared by all its instances. Elements are frozen once the tree is built, so
+ * they can not be changed through any of those instances.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:45:32 PM
+ */
+final class ElementTree {
+	private static final Logger						log;
+	private static final Map <String, ElementTree>	trees;
+
+	static {
+		log = LogManager.getLogger (ElementTree.class);
+		trees = new ConcurrentHashMap <> ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:45:32 PM
+	 * @param activity
+	 * @param platform
+	 * @param optimize
+	 * @param prepare
+	 *            builds the element tree, called outside of any lock. If two threads build the same tree
+	 *            at once, the tree of the first one is kept.
+	 * @return shared element tree
+	 */
+	static ElementTree of (final Class <?> activity, final PlatformType platform, final boolean optimize,
+			final Supplier <DeviceElement> prepare) {
+		final String key = String.format ("%s@%s#%s", activity.getName (), platform, optimize);
+		final ElementTree existing = trees.get (key);
+		if (existing != null) {
+			return existing;
+		}
+		final String msg = "Building element tree for [%s]...";
+		log.trace (String.format (msg, key));
+		final ElementTree tree = new ElementTree (prepare.get ());
+		if (optimize) {
+			tree.elements.values ()
+				.forEach (e -> LocatorCompiler.compile (e.locator (), platform));
+		}
+		final ElementTree built = trees.putIfAbsent (key, tree);
+		return built != null ? built : tree;
+	}
+
+	private final List <List <DeviceElement>>	ancestors;
+	private final Map <String, DeviceElement>	elements;
+	private final Map <String, Integer>			indices;
+	private final int []						parents;
+
+	private ElementTree (final DeviceElement root) {
+		final List <DeviceElement> nodes = new ArrayList <> ();
+		final Map <String, Integer> positions = new HashMap <> ();
+		collect (root, nodes, positions);
+		this.parents = new int [nodes.size ()];
+		final List <List <DeviceElement>> chains = new ArrayList <> (nodes.size ());
+		final Map <String, DeviceElement> byName = new HashMap <> ();
+		for (int i = 0; i < nodes.size (); i++) {
+			final DeviceElement parent = nodes.get (i)
+				.parent ();
+			this.parents [i] = parent == null ? -1 : positions.getOrDefault (parent.name (), -1);
+			final DeviceElement [] chain = new DeviceElement [depth (i)];
+			for (int p = this.parents [i], c = chain.length - 1; p >= 0; p = this.parents [p], c--) {
+				chain [c] = nodes.get (p);
+			}
+			chains.add (Collections.unmodifiableList (Arrays.asList (chain)));
+			byName.put (nodes.get (i)
+				.name (), nodes.get (i));
+		}
+		nodes.forEach (DeviceElement::freeze);
+		this.ancestors = Collections.unmodifiableList (chains);
+		this.elements = Collections.unmodifiableMap (byName);
+		this.indices = Collections.unmodifiableMap (positions);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:45:32 PM
+	 * @param element
+	 * @return ancestors of element starting from the root
+	 */
+	List <DeviceElement> ancestors (final DeviceElement element) {
+		return this.ancestors.get (this.indices.get (element.name ()));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:45:32 PM
+	 * @return elements by name
+	 */
+	Map <String, DeviceElement> elements () {
+		return this.elements;
+	}
+
+	private void collect (final DeviceElement element, final List <DeviceElement> nodes,
+			final Map <String, Integer> positions) {
+		if (!positions.containsKey (element.name ())) {
+			positions.put (element.name (), nodes.size ());
+			nodes.add (element);
+		}
+		for (final DeviceElement child : element.childs ()) {
+			collect (child, nodes, positions);
+		}
+	}
+
+	private int depth (final int index) {
+		int depth = 0;
+		for (int p = this.parents [index]; p >= 0; p = this.parents [p]) {
+			depth++;
+		}
+		return depth;
+	}
+}
\ No newline at end of file
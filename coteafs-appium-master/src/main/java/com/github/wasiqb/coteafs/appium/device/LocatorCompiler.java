@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+
+import com.github.wasiqb.coteafs.appium.config.PlatformType;
+
+import io.appium.java_client.MobileBy;
+
+/**
+ * Rewrites common XPath locators into native UiAutomator, class chain or predicate string locators.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:47:07 PM
+ */
+public final class LocatorCompiler {
+	private static final class Condition {
+		private final String	attribute;
+		private final String	operator;
+		private final String	value;
+
+		private Condition (final String attribute, final String operator, final String value) {
+			this.attribute = attribute;
+			this.operator = operator;
+			this.value = value;
+		}
+	}
+
+	private static final Pattern			CONDITION	= Pattern.compile (
+			"^(?:@([\\w-]+)|text\\(\\))\\s*=\\s*(['\"])(.*)\\2$|^(contains|starts-with)\\(\\s*@([\\w-]+)\\s*,\\s*(['\"])(.*)\\6\\s*\\)$");
+	private static final Pattern			INSTANCE	= Pattern.compile ("^\\((//.+)\\)\\[(\\d+)\\]$");
+	private static final Pattern			STEP		= Pattern.compile ("^//([\\w.]+|\\*)((?:\\[[^\\]]+\\])*)$");
+	private static final Map <String, By>	compiled;
+	private static final Logger				log;
+	private static final Set <String>		untranslated;
+
+	static {
+		log = LogManager.getLogger (LocatorCompiler.class);
+		compiled = new ConcurrentHashMap <> ();
+		untranslated = ConcurrentHashMap.newKeySet ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:07 PM
+	 * @param locator
+	 * @param platform
+	 * @return native locator for the platform, or the same locator if it could not be translated
+	 */
+	public static By compile (final By locator, final PlatformType platform) {
+		return compiled.computeIfAbsent (key (locator, platform), k -> {
+			final String value = locator.toString ();
+			if (!value.startsWith ("By.xpath: ")) {
+				return locator;
+			}
+			final By result = translate (value.substring (10)
+				.trim (), platform);
+			if (result == null) {
+				untranslated.add (k);
+				final String msg = "Locator [%s] could not be optimized for [%s], it will be used as it is...";
+				log.info (String.format (msg, locator, platform));
+				return locator;
+			}
+			final String msg = "Locator [%s] optimized to [%s] for [%s]...";
+			log.trace (String.format (msg, locator, result, platform));
+			return result;
+		});
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:07 PM
+	 * @return XPath locators which could not be translated or whose translation did not work
+	 */
+	public static Set <String> untranslated () {
+		return Collections.unmodifiableSet (new TreeSet <> (untranslated));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:07 PM
+	 * @param locator
+	 * @param platform
+	 */
+	static void reject (final By locator, final PlatformType platform) {
+		final String key = key (locator, platform);
+		final String msg = "Optimized locator for [%s] did not work, using the original locator...";
+		log.warn (String.format (msg, locator));
+		compiled.put (key, locator);
+		untranslated.add (key);
+	}
+
+	private static String androidSelector (final String type, final List <Condition> conditions,
+			final int instance) {
+		final StringBuilder selector = new StringBuilder ("new UiSelector()");
+		if (!"*".equals (type)) {
+			selector.append (String.format (".className(%s)", quote (type)));
+		}
+		for (final Condition condition : conditions) {
+			final String method = androidMethod (condition);
+			if (method == null) {
+				return null;
+			}
+			selector.append (String.format (".%s(%s)", method, quote (condition.value)));
+		}
+		if (instance > 0) {
+			selector.append (String.format (".instance(%d)", instance - 1));
+		}
+		return selector.toString ();
+	}
+
+	private static String androidMethod (final Condition condition) {
+		final String suffix = "=".equals (condition.operator) ? ""
+				: "contains".equals (condition.operator) ? "Contains" : "StartsWith";
+		switch (condition.attribute) {
+			case "resource-id":
+				return suffix.isEmpty () ? "resourceId" : null;
+			case "text":
+				return "text" + suffix;
+			case "content-desc":
+				return "description" + suffix;
+			case "class":
+				return suffix.isEmpty () ? "className" : null;
+			default:
+				return null;
+		}
+	}
+
+	private static String iosPredicate (final String type, final List <Condition> conditions) {
+		final List <String> parts = new ArrayList <> ();
+		if (type != null) {
+			parts.add ("type == " + quote (type));
+		}
+		for (final Condition condition : conditions) {
+			final String attribute = condition.attribute;
+			if (!attribute.matches ("name|label|value|type")) {
+				return null;
+			}
+			final String operator = "=".equals (condition.operator) ? "=="
+					: "contains".equals (condition.operator) ? "CONTAINS" : "BEGINSWITH";
+			parts.add (String.format ("%s %s %s", attribute, operator, quote (condition.value)));
+		}
+		return String.join (" AND ", parts);
+	}
+
+	private static String key (final By locator, final PlatformType platform) {
+		return platform + "|" + locator;
+	}
+
+	private static List <Condition> parse (final String predicates) {
+		final List <Condition> conditions = new ArrayList <> ();
+		if (predicates.isEmpty ()) {
+			return conditions;
+		}
+		final String body = predicates.substring (1, predicates.length () - 1);
+		for (final String predicate : body.split ("\\]\\[")) {
+			for (final String part : predicate.split ("\\s+and\\s+")) {
+				final Matcher matcher = CONDITION.matcher (part.trim ());
+				if (!matcher.matches ()) {
+					return null;
+				}
+				if (matcher.group (3) != null) {
+					final String attribute = matcher.group (1) != null ? matcher.group (1) : "text";
+					conditions.add (new Condition (attribute, "=", matcher.group (3)));
+				}
+				else {
+					conditions.add (new Condition (matcher.group (5), matcher.group (4), matcher.group (7)));
+				}
+			}
+		}
+		return conditions;
+	}
+
+	private static String quote (final String value) {
+		return "\"" + value.replace ("\\", "\\\\")
+			.replace ("\"", "\\\"") + "\"";
+	}
+
+	private static By translate (final String xpath, final PlatformType platform) {
+		String path = xpath;
+		int instance = 0;
+		final Matcher indexed = INSTANCE.matcher (xpath);
+		if (indexed.matches ()) {
+			path = indexed.group (1);
+			instance = Integer.parseInt (indexed.group (2));
+		}
+		final Matcher step = STEP.matcher (path);
+		if (!step.matches () || instance < 0) {
+			return null;
+		}
+		final List <Condition> conditions = parse (step.group (2));
+		if (conditions == null) {
+			return null;
+		}
+		final String type = step.group (1);
+		switch (platform) {
+			case ANDROID:
+				final String selector = androidSelector (type, conditions, instance);
+				return selector == null ? null : MobileBy.AndroidUIAutomator (selector);
+			case IOS:
+				if (instance > 0) {
+					final String filter = iosPredicate (null, conditions);
+					if (filter == null) {
+						return null;
+					}
+					final String chain = filter.isEmpty () ? "" : String.format ("[`%s`]", filter);
+					return MobileBy.iOSClassChain (String.format ("**/%s%s[%d]", type, chain, instance));
+				}
+				final String predicate = iosPredicate ("*".equals (type) ? null : type, conditions);
+				return predicate == null || predicate.isEmpty () ? null : MobileBy.iOSNsPredicateString (predicate);
+			default:
+				return null;
+		}
+	}
+
+	private LocatorCompiler () {
+		// Utility class.
+	}
+}
\ No newline at end of file
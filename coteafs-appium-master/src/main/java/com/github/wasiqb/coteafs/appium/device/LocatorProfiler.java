@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+
+/**
+ * Records lookup timings per activity element and reports the slowest locators. Successful lookups are ranked
+ * on their own, as a failed lookup always waits for the whole timeout and would hide the slow locators which
+ * do find their element. Locators failing most are reported separately. Report is logged by
+ * {@link LocatorProfilerListener}, which TestNG loads from the service loader, or can be fetched by calling
+ * {@link #report(int)}.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:47:56 PM
+ */
+public final class LocatorProfiler {
+	static final class Sample {
+		private long			findTime;
+		private final By		locator;
+		private final String	name;
+		private int				polls;
+		private int				results;
+		private final long		start;
+
+		private Sample (final String name, final By locator) {
+			this.name = name;
+			this.locator = locator;
+			this.start = System.nanoTime ();
+		}
+
+		void poll (final long nanos, final int count) {
+			this.findTime += nanos;
+			this.polls++;
+			this.results = count;
+		}
+	}
+
+	private static final class Histogram {
+		private static final int		BUCKETS	= 32;
+		private final AtomicLongArray	buckets;
+		private final LongAdder			count;
+		private final LongAccumulator	max;
+		private final LongAdder			sum;
+
+		private Histogram () {
+			this.buckets = new AtomicLongArray (BUCKETS);
+			this.count = new LongAdder ();
+			this.max = new LongAccumulator (Math::max, 0);
+			this.sum = new LongAdder ();
+		}
+
+		private double mean () {
+			final long total = this.count.sum ();
+			return total == 0 ? 0 : (double) this.sum.sum () / total;
+		}
+
+		private long percentile (final double percent) {
+			final long target = (long) Math.ceil (this.count.sum () * percent);
+			long seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += this.buckets.get (i);
+				if (seen >= target) {
+					return Math.min (this.max.get (), (1L << i) - 1);
+				}
+			}
+			return this.max.get ();
+		}
+
+		private void record (final long millis) {
+			final int bucket = Math.min (BUCKETS - 1, 64 - Long.numberOfLeadingZeros (millis));
+			this.buckets.incrementAndGet (bucket);
+			this.count.increment ();
+			this.sum.add (millis);
+			this.max.accumulate (millis);
+		}
+	}
+
+	private static final class Profile {
+		private final Histogram	failed;
+		private final Histogram	find;
+		private final Histogram	found;
+		private final String	name;
+		private final LongAdder	polls;
+		private final LongAdder	results;
+		private final String	strategy;
+
+		private Profile (final String name, final By locator) {
+			this.name = name;
+			final String value = locator.toString ();
+			final int split = value.indexOf (':');
+			this.strategy = split > 0 ? value.substring (0, split) : value;
+			this.failed = new Histogram ();
+			this.find = new Histogram ();
+			this.found = new Histogram ();
+			this.polls = new LongAdder ();
+			this.results = new LongAdder ();
+		}
+	}
+
+	private static final Map <String, Profile> profiles;
+
+	static {
+		profiles = new ConcurrentHashMap <> ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 11:10:30 PM
+	 * @return true if no lookup was recorded yet
+	 */
+	public static boolean isEmpty () {
+		return profiles.isEmpty ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:56 PM
+	 * @param top
+	 * @return report of top slowest locators by mean successful lookup time, followed by top locators by
+	 *         failed lookups
+	 */
+	public static String report (final int top) {
+		final List <Profile> slowest = ranked (p -> p.found, Comparator.comparingDouble (p -> p.found.mean ()));
+		final String row = "%-50s %-22s %7s %9s %9s %9s %9s %7s %7s %6s%n";
+		final StringBuilder sb = new StringBuilder (String.format ("Top %d slowest locators:%n", top));
+		sb.append (String.format (row, "Element", "Strategy", "Lookups", "Mean ms", "P95 ms", "Max ms", "Find ms",
+				"Polls", "Results", "Fails"));
+		for (final Profile profile : slowest.subList (0, Math.min (top, slowest.size ()))) {
+			final long count = profile.found.count.sum ();
+			sb.append (String.format (row, profile.name, profile.strategy, count,
+					String.format ("%.1f", profile.found.mean ()), profile.found.percentile (0.95),
+					profile.found.max.get (), String.format ("%.1f", profile.find.mean ()),
+					String.format ("%.1f", (double) profile.polls.sum () / count),
+					String.format ("%.1f", (double) profile.results.sum () / count), profile.failed.count.sum ()));
+		}
+		final List <Profile> failing = ranked (p -> p.failed,
+				Comparator.comparingLong (p -> p.failed.count.sum ()));
+		if (!failing.isEmpty ()) {
+			final String failRow = "%-50s %-22s %6s %9s %9s%n";
+			sb.append (String.format ("Top %d failing locators:%n", top));
+			sb.append (String.format (failRow, "Element", "Strategy", "Fails", "Mean ms", "Max ms"));
+			for (final Profile profile : failing.subList (0, Math.min (top, failing.size ()))) {
+				sb.append (String.format (failRow, profile.name, profile.strategy, profile.failed.count.sum (),
+						String.format ("%.1f", profile.failed.mean ()), profile.failed.max.get ()));
+			}
+		}
+		return sb.toString ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:56 PM
+	 */
+	public static void reset () {
+		profiles.clear ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:56 PM
+	 * @param sample
+	 * @param found
+	 */
+	static void record (final Sample sample, final boolean found) {
+		final long elapsed = TimeUnit.NANOSECONDS.toMillis (System.nanoTime () - sample.start);
+		final Profile profile = profiles.computeIfAbsent (sample.name + "|" + sample.locator,
+				k -> new Profile (sample.name, sample.locator));
+		if (found) {
+			profile.found.record (elapsed);
+			profile.find.record (TimeUnit.NANOSECONDS.toMillis (sample.findTime));
+			profile.polls.add (sample.polls);
+			profile.results.add (sample.results);
+		}
+		else {
+			profile.failed.record (elapsed);
+		}
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:56 PM
+	 * @param activity
+	 * @param element
+	 * @param locator
+	 * @return sample of a lookup which has just started
+	 */
+	static Sample start (final Class <?> activity, final String element, final By locator) {
+		return new Sample (activity.getSimpleName () + "#" + element, locator);
+	}
+
+	private static List <Profile> ranked (final Function <Profile, Histogram> lookups,
+			final Comparator <Profile> order) {
+		final List <Profile> ranked = new ArrayList <> ();
+		for (final Profile profile : profiles.values ()) {
+			if (lookups.apply (profile).count.sum () > 0) {
+				ranked.add (profile);
+			}
+		}
+		ranked.sort (order.reversed ());
+		return ranked;
+	}
+
+	private LocatorProfiler () {
+		// Utility class.
+	}
+}
\ No newline at end of file
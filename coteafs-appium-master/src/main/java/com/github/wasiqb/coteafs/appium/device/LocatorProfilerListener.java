@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Logs the slowest locators recorded by {@link LocatorProfiler} when the suite finishes. It is registered
+ * through the service loader, so it needs no listener entry in the suite file.
+ *
+ * @author agent
+ * @since Oct 17, 2026 11:10:30 PM
+ */
+public class LocatorProfilerListener implements ISuiteListener {
+	private static final int	TOP	= 10;
+	private static final Logger	log;
+
+	static {
+		log = LogManager.getLogger (LocatorProfilerListener.class);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.testng.ISuiteListener#onFinish(org.testng.ISuite)
+	 */
+	@Override
+	public void onFinish (final ISuite suite) {
+		if (!LocatorProfiler.isEmpty ()) {
+			log.info (LocatorProfiler.report (TOP));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.testng.ISuiteListener#onStart(org.testng.ISuite)
+	 */
+	@Override
+	public void onStart (final ISuite suite) {
+		// Nothing to do.
+	}
+}
\ No newline at end of file
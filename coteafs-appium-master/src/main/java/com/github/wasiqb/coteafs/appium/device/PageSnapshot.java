@@ -0,0 +1,510 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Rectangle;
+
+import com.github.wasiqb.coteafs.appium.config.PlatformType;
+
+/**
+ * In-memory tree of a page source which evaluates id, class name, accessibility id and simple xpath
+ * locators locally. Xpath with {@code text()} is not evaluated locally since page source keeps text
+ * as attribute while the device matches it against text content, such locators are found on the
+ * device instead.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:43:41 PM
+ */
+final class PageSnapshot {
+	static final class Node {
+		private final String[]		attributes;
+		private final List <Node>	childs;
+		private final int			order;
+		private final Node			parent;
+		private final String		tag;
+
+		private Node (final Node parent, final String tag, final String [] attributes, final int order) {
+			this.parent = parent;
+			this.tag = tag;
+			this.attributes = attributes;
+			this.order = order;
+			this.childs = new ArrayList <> ();
+		}
+
+		String attribute (final String name) {
+			for (int i = 0; i < this.attributes.length; i += 2) {
+				if (this.attributes [i].equals (name)) {
+					return this.attributes [i + 1];
+				}
+			}
+			return null;
+		}
+
+		String tag () {
+			return this.tag;
+		}
+	}
+
+	private static final class Step {
+		private final boolean										descendant;
+		private final String										name;
+		private final List <Function <List <Node>, List <Node>>>	predicates;
+
+		private Step (final boolean descendant, final String name) {
+			this.descendant = descendant;
+			this.name = name;
+			this.predicates = new ArrayList <> ();
+		}
+
+		private List <Node> candidates (final Node base) {
+			if (".".equals (this.name)) {
+				return Collections.singletonList (base);
+			}
+			final List <Node> result = new ArrayList <> ();
+			for (final Node child : base.childs) {
+				if ("*".equals (this.name) || this.name.equals (child.tag)) {
+					result.add (child);
+				}
+			}
+			return result;
+		}
+	}
+
+	private final class XPath {
+		private final String	expression;
+		private int				position;
+
+		private XPath (final String expression) {
+			this.expression = expression.trim ();
+		}
+
+		private List <Node> evaluate (final Node context) {
+			List <Node> current = Collections.singletonList (this.expression.startsWith ("/") ? PageSnapshot.this.root
+					: context);
+			for (final Step step : parse ()) {
+				final List <Node> bases = step.descendant ? descendantsOrSelf (current) : current;
+				final Set <Node> seen = Collections.newSetFromMap (new IdentityHashMap <> ());
+				final List <Node> next = new ArrayList <> ();
+				for (final Node base : bases) {
+					List <Node> candidates = step.candidates (base);
+					for (final Function <List <Node>, List <Node>> predicate : step.predicates) {
+						candidates = predicate.apply (candidates);
+					}
+					for (final Node candidate : candidates) {
+						if (seen.add (candidate)) {
+							next.add (candidate);
+						}
+					}
+				}
+				next.sort (Comparator.comparingInt (n -> n.order));
+				current = next;
+			}
+			return current;
+		}
+
+		private void expect (final String token) {
+			skipSpaces ();
+			if (!this.expression.startsWith (token, this.position)) {
+				throw new IllegalArgumentException (this.expression);
+			}
+			this.position += token.length ();
+		}
+
+		private boolean has (final String token) {
+			skipSpaces ();
+			return this.expression.startsWith (token, this.position);
+		}
+
+		private List <Step> parse () {
+			final List <Step> steps = new ArrayList <> ();
+			while (this.position < this.expression.length ()) {
+				boolean descendant = false;
+				if (has ("//")) {
+					descendant = true;
+					this.position += 2;
+				}
+				else if (has ("/")) {
+					this.position++;
+				}
+				else if (!steps.isEmpty ()) {
+					throw new IllegalArgumentException (this.expression);
+				}
+				final Step step = new Step (descendant, readName ());
+				while (has ("[")) {
+					this.position++;
+					step.predicates.add (readPredicate ());
+					expect ("]");
+				}
+				steps.add (step);
+			}
+			return steps;
+		}
+
+		private String readAttribute () {
+			expect ("@");
+			return readName ();
+		}
+
+		private Predicate <Node> readCondition () {
+			if (has ("contains(") || has ("starts-with(")) {
+				final boolean contains = has ("contains(");
+				this.position = this.expression.indexOf ('(', this.position) + 1;
+				final String attribute = readAttribute ();
+				expect (",");
+				final String value = readLiteral ();
+				expect (")");
+				return contains ? n -> n.attribute (attribute) != null && n.attribute (attribute).contains (value)
+						: n -> n.attribute (attribute) != null && n.attribute (attribute).startsWith (value);
+			}
+			if (has ("text()")) {
+				throw new IllegalArgumentException (this.expression);
+			}
+			final String attribute = readAttribute ();
+			expect ("=");
+			final String value = readLiteral ();
+			return n -> value.equals (n.attribute (attribute));
+		}
+
+		private String readLiteral () {
+			skipSpaces ();
+			final char quote = this.expression.charAt (this.position);
+			if (quote != '\'' && quote != '"') {
+				throw new IllegalArgumentException (this.expression);
+			}
+			final int end = this.expression.indexOf (quote, this.position + 1);
+			if (end < 0) {
+				throw new IllegalArgumentException (this.expression);
+			}
+			final String literal = this.expression.substring (this.position + 1, end);
+			this.position = end + 1;
+			return literal;
+		}
+
+		private String readName () {
+			skipSpaces ();
+			final int start = this.position;
+			while (this.position < this.expression.length ()) {
+				final char ch = this.expression.charAt (this.position);
+				if (!Character.isLetterOrDigit (ch) && "._-*".indexOf (ch) < 0) {
+					break;
+				}
+				this.position++;
+			}
+			final String name = this.expression.substring (start, this.position);
+			if (name.isEmpty () || "..".equals (name)) {
+				throw new IllegalArgumentException (this.expression);
+			}
+			return name;
+		}
+
+		private Function <List <Node>, List <Node>> readPredicate () {
+			skipSpaces ();
+			if (Character.isDigit (this.expression.charAt (this.position))) {
+				final int start = this.position;
+				while (Character.isDigit (this.expression.charAt (this.position))) {
+					this.position++;
+				}
+				final int index = Integer.parseInt (this.expression.substring (start, this.position)) - 1;
+				return nodes -> index < nodes.size () ? Collections.singletonList (nodes.get (index))
+						: Collections.emptyList ();
+			}
+			Predicate <Node> condition = readCondition ();
+			while (has ("and ")) {
+				this.position += 4;
+				condition = condition.and (readCondition ());
+			}
+			final Predicate <Node> filter = condition;
+			return nodes -> {
+				final List <Node> result = new ArrayList <> ();
+				for (final Node node : nodes) {
+					if (filter.test (node)) {
+						result.add (node);
+					}
+				}
+				return result;
+			};
+		}
+
+		private void skipSpaces () {
+			while (this.position < this.expression.length ()
+					&& Character.isWhitespace (this.expression.charAt (this.position))) {
+				this.position++;
+			}
+		}
+	}
+
+	private static final Pattern			BOUNDS	= Pattern
+		.compile ("\\[(-?\\d+),(-?\\d+)\\]\\[(-?\\d+),(-?\\d+)\\]");
+	private static final XMLInputFactory	factory;
+
+	static {
+		factory = XMLInputFactory.newInstance ();
+		factory.setProperty (XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty (XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @param source
+	 * @param platform
+	 * @return snapshot
+	 * @throws XMLStreamException
+	 */
+	static PageSnapshot parse (final String source, final PlatformType platform) throws XMLStreamException {
+		final XMLStreamReader reader = factory.createXMLStreamReader (new StringReader (source));
+		try {
+			int order = 0;
+			final Node root = new Node (null, "#document", new String [0], order++);
+			Node current = root;
+			while (reader.hasNext ()) {
+				final int event = reader.next ();
+				if (event == START_ELEMENT) {
+					final int count = reader.getAttributeCount ();
+					final String [] attributes = new String [count * 2];
+					for (int i = 0; i < count; i++) {
+						attributes [i * 2] = reader.getAttributeLocalName (i);
+						attributes [i * 2 + 1] = reader.getAttributeValue (i);
+					}
+					final Node node = new Node (current, reader.getLocalName (), attributes, order++);
+					current.childs.add (node);
+					current = node;
+				}
+				else if (event == END_ELEMENT) {
+					current = current.parent;
+				}
+			}
+			return new PageSnapshot (root, platform, order);
+		}
+		finally {
+			reader.close ();
+		}
+	}
+
+	private static List <Node> descendantsOrSelf (final List <Node> nodes) {
+		final Set <Node> seen = Collections.newSetFromMap (new IdentityHashMap <> ());
+		final List <Node> result = new ArrayList <> ();
+		for (final Node node : nodes) {
+			if (seen.add (node)) {
+				result.add (node);
+				collect (node, n -> true, result);
+			}
+		}
+		return result;
+	}
+
+	private static void collect (final Node node, final Predicate <Node> filter, final List <Node> result) {
+		for (final Node child : node.childs) {
+			if (filter.test (child)) {
+				result.add (child);
+			}
+			collect (child, filter, result);
+		}
+	}
+
+	private final PlatformType	platform;
+	private final Node			root;
+	private final int			size;
+
+	private PageSnapshot (final Node root, final PlatformType platform, final int size) {
+		this.root = root;
+		this.platform = platform;
+		this.size = size;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @param node
+	 * @return enabled state or null if not available in page source
+	 */
+	Boolean enabled (final Node node) {
+		return bool (node.attribute ("enabled"), null);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @param context
+	 * @param locator
+	 * @return matching nodes in document order or null if locator can not be evaluated locally
+	 */
+	List <Node> find (final Node context, final By locator) {
+		if (this.platform == PlatformType.WINDOWS) {
+			return null;
+		}
+		final String value = locator.toString ();
+		final int split = value.indexOf (": ");
+		if (split < 0) {
+			return null;
+		}
+		final String selector = value.substring (split + 2);
+		final Node start = context == null ? this.root : context;
+		final List <Node> result = new ArrayList <> ();
+		switch (value.substring (0, split)) {
+			case "By.id":
+				collect (start, n -> matchesId (n, selector), result);
+				return result;
+			case "By.className":
+				collect (start, n -> selector.equals (className (n)), result);
+				return result;
+			case "By.AccessibilityId":
+				collect (start, n -> selector.equals (accessibilityId (n)), result);
+				return result;
+			case "By.xpath":
+				try {
+					return new XPath (selector).evaluate (start);
+				}
+				catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+					return null;
+				}
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:59:15 PM
+	 * @return texts of all nodes, used to detect whether the content has moved
+	 */
+	Set <String> fingerprint () {
+		final List <Node> nodes = new ArrayList <> ();
+		collect (this.root, n -> true, nodes);
+		final Set <String> texts = new HashSet <> ();
+		for (final Node node : nodes) {
+			final String text = text (node);
+			if (text != null && !text.isEmpty ()) {
+				texts.add (className (node) + ":" + text);
+			}
+		}
+		return texts;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:57:00 PM
+	 * @param node
+	 * @return location and size of node or null if not available in page source
+	 */
+	Rectangle rect (final Node node) {
+		try {
+			if (this.platform == PlatformType.IOS) {
+				return new Rectangle (Integer.parseInt (node.attribute ("x")), Integer.parseInt (node.attribute ("y")),
+						Integer.parseInt (node.attribute ("height")), Integer.parseInt (node.attribute ("width")));
+			}
+			final Matcher bounds = BOUNDS.matcher (String.valueOf (node.attribute ("bounds")));
+			if (!bounds.matches ()) {
+				return null;
+			}
+			final int x = Integer.parseInt (bounds.group (1));
+			final int y = Integer.parseInt (bounds.group (2));
+			return new Rectangle (x, y, Integer.parseInt (bounds.group (4)) - y,
+					Integer.parseInt (bounds.group (3)) - x);
+		}
+		catch (final NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @param node
+	 * @return selected state or null if not available in page source
+	 */
+	Boolean selected (final Node node) {
+		return bool (node.attribute ("selected"), null);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @return number of nodes
+	 */
+	int size () {
+		return this.size;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @param node
+	 * @return text of node
+	 */
+	String text (final Node node) {
+		if (this.platform == PlatformType.IOS) {
+			final String value = node.attribute ("value");
+			return value != null ? value : node.attribute ("label");
+		}
+		return node.attribute ("text");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @param node
+	 * @return displayed state or null if not available in page source
+	 */
+	Boolean visible (final Node node) {
+		if (this.platform == PlatformType.IOS) {
+			return bool (node.attribute ("visible"), null);
+		}
+		return bool (node.attribute ("displayed"), Boolean.TRUE);
+	}
+
+	private String accessibilityId (final Node node) {
+		return this.platform == PlatformType.IOS ? node.attribute ("name") : node.attribute ("content-desc");
+	}
+
+	private Boolean bool (final String value, final Boolean defaultValue) {
+		return value == null ? defaultValue : Boolean.valueOf (value);
+	}
+
+	private String className (final Node node) {
+		final String name = this.platform == PlatformType.IOS ? node.attribute ("type") : node.attribute ("class");
+		return name != null ? name : node.tag;
+	}
+
+	private boolean matchesId (final Node node, final String id) {
+		if (this.platform == PlatformType.IOS) {
+			return id.equals (node.attribute ("name"));
+		}
+		final String resourceId = node.attribute ("resource-id");
+		return resourceId != null && (resourceId.equals (id) || resourceId.endsWith (":id/" + id));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,248 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.github.wasiqb.coteafs.appium.constants.ErrorMessage.SERVER_STOPPED;
+import static com.github.wasiqb.coteafs.appium.utils.ErrorUtils.fail;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebDriverException;
+
+import com.github.wasiqb.coteafs.appium.config.ApplicationType;
+import com.github.wasiqb.coteafs.appium.config.PlatformType;
+import com.github.wasiqb.coteafs.appium.config.PlaybackSetting;
+import com.github.wasiqb.coteafs.appium.error.AppiumServerStoppedError;
+import com.github.wasiqb.coteafs.appium.utils.GestureUtils;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.MobileBy;
+import io.appium.java_client.MobileElement;
+
+/**
+ * Scrolls the content until an element is shown. Native scrolling is tried first, then the screen
+ * is swiped, checking for the element in page source after every swipe. Content has ended when the
+ * page source texts stop changing, and the swipe distance grows or shrinks with how much of the
+ * content moved. Swipes stay within [20%, 80%] of the screen so that they don't start on the
+ * notification shade or the system gesture area.
+ *
+ * @author agent
+ * @param <D>
+ * @param <E>
+ * @since Oct 17, 2026 10:59:15 PM
+ */
+final class ScrollSearch <D extends AppiumDriver <MobileElement>, E extends Device <D>> {
+	private static final int	INSET			= 20;
+	private static final int	MAX_DISTANCE	= 100 - 2 * INSET;
+	private static final int	MIN_DISTANCE	= 20;
+	private static final Logger	log;
+
+	static {
+		log = LogManager.getLogger (ScrollSearch.class);
+	}
+
+	private static int inset (final int center, final int direction, final int size, final int percent) {
+		final int low = size * INSET / 100;
+		final int high = size * (100 - INSET) / 100;
+		return Math.max (low, Math.min (high, center + direction * size * percent / 100));
+	}
+
+	private static double overlap (final Set <String> previous, final Set <String> current) {
+		if (previous.isEmpty ()) {
+			return 0;
+		}
+		final Set <String> common = new HashSet <> (previous);
+		common.retainAll (current);
+		return (double) common.size () / previous.size ();
+	}
+
+	private static String quote (final String value) {
+		return "\"" + value.replace ("\"", "\\\"") + "\"";
+	}
+
+	private static String selector (final By locator) {
+		final String value = locator.toString ();
+		final int split = value.indexOf (": ");
+		if (split < 0) {
+			return null;
+		}
+		final String strategy = value.substring (0, split);
+		final String selector = value.substring (split + 2);
+		if (strategy.endsWith ("AndroidUIAutomator")) {
+			return selector.startsWith ("new UiSelector()") ? selector : null;
+		}
+		if ("By.id".equals (strategy)) {
+			return selector.contains (":id/") ? "new UiSelector().resourceId(" + quote (selector) + ")"
+					: "new UiSelector().resourceIdMatches(" + quote (".*:id/" + selector) + ")";
+		}
+		if ("By.AccessibilityId".equals (strategy)) {
+			return "new UiSelector().description(" + quote (selector) + ")";
+		}
+		return null;
+	}
+
+	private final DeviceActivity <D, E>	activity;
+	private final SwipeDirection		direction;
+	private final PlatformType			platform;
+
+	ScrollSearch (final DeviceActivity <D, E> activity, final SwipeDirection direction) {
+		this.activity = activity;
+		this.direction = direction;
+		this.platform = activity.device.getSetting ()
+			.getPlatformType ();
+	}
+
+	boolean find (final DeviceElement element) {
+		try {
+			if (scrollNatively (element) && this.activity.probe (element.name ()) != null) {
+				return true;
+			}
+			return swipe (element);
+		}
+		catch (final NoSuchSessionException e) {
+			fail (AppiumServerStoppedError.class, SERVER_STOPPED, e);
+		}
+		return false;
+	}
+
+	private boolean found (final ActivitySnapshot <D, E> snapshot, final DeviceElement element) {
+		final Boolean present = snapshot.present (element.name ());
+		if (present != null) {
+			return present;
+		}
+		return this.activity.probe (element.name ()) != null;
+	}
+
+	private boolean horizontal () {
+		return this.direction == SwipeDirection.LEFT || this.direction == SwipeDirection.RIGHT;
+	}
+
+	private boolean scrollNatively (final DeviceElement element) {
+		final E device = this.activity.device;
+		if (element.parent () != null || device.getSetting ()
+			.getAppType () == ApplicationType.WEB) {
+			return false;
+		}
+		final By locator = LocatorCompiler.compile (element.locator (), this.platform);
+		try {
+			if (this.platform == PlatformType.ANDROID) {
+				final String selector = selector (locator);
+				if (selector == null) {
+					return false;
+				}
+				final String scrollable = "new UiScrollable(new UiSelector().scrollable(true))%s.scrollIntoView(%s)";
+				device.getDriver ()
+					.findElements (MobileBy.AndroidUIAutomator (String.format (scrollable,
+							horizontal () ? ".setAsHorizontalList()" : "", selector)));
+			}
+			else if (this.platform == PlatformType.IOS) {
+				final String value = locator.toString ();
+				final int split = value.indexOf (": ");
+				if (split < 0) {
+					return false;
+				}
+				final String strategy = value.substring (0, split);
+				final Map <String, Object> args = new HashMap <> ();
+				if ("By.AccessibilityId".equals (strategy) || "By.id".equals (strategy)) {
+					args.put ("name", value.substring (split + 2));
+				}
+				else if (strategy.contains ("Predicate")) {
+					args.put ("predicateString", value.substring (split + 2));
+				}
+				else {
+					return false;
+				}
+				device.getDriver ()
+					.executeScript ("mobile: scroll", args);
+			}
+			else {
+				return false;
+			}
+			final String msg = "Scrolled natively to [%s]...";
+			log.trace (String.format (msg, element.name ()));
+			device.screenChanged ();
+			return true;
+		}
+		catch (final NoSuchSessionException e) {
+			throw e;
+		}
+		catch (final WebDriverException e) {
+			final String msg = "Native scroll to [%s] failed, swiping instead...";
+			log.trace (String.format (msg, element.name ()));
+			device.screenChanged ();
+			return false;
+		}
+	}
+
+	private boolean swipe (final DeviceElement element) {
+		final ActivitySnapshot <D, E> snapshot = this.activity.snapshot ();
+		final int maxSwipes = this.activity.device.getSetting ()
+			.getPlayback ()
+			.getMaxScrollSwipes ();
+		int distance = 50;
+		Set <String> previous = snapshot.fingerprint ();
+		for (int swipes = 0; swipes < maxSwipes; swipes++) {
+			if (found (snapshot, element)) {
+				return true;
+			}
+			swipe (distance);
+			final Set <String> current = snapshot.fingerprint ();
+			if (previous != null && previous.equals (current)) {
+				final String msg = "Content stopped moving after [%d] swipes...";
+				log.trace (String.format (msg, swipes + 1));
+				return found (snapshot, element);
+			}
+			if (previous != null && current != null) {
+				final double kept = overlap (previous, current);
+				if (kept > 0.75) {
+					distance = Math.min (MAX_DISTANCE, distance * 3 / 2);
+				}
+				else if (kept < 0.25) {
+					distance = Math.max (MIN_DISTANCE, distance * 2 / 3);
+				}
+			}
+			previous = current;
+		}
+		return found (snapshot, element);
+	}
+
+	private void swipe (final int distance) {
+		final E device = this.activity.device;
+		final PlaybackSetting setting = device.getSetting ()
+			.getPlayback ();
+		final Dimension size = device.getScreenSize ();
+		final int w = size.getWidth ();
+		final int h = size.getHeight ();
+		final int dx = this.direction.getX ();
+		final int dy = this.direction.getY ();
+		final Point from = new Point (inset (w / 2, -dx, w, 50 - INSET), inset (h / 2, -dy, h, 50 - INSET));
+		final Point to = new Point (inset (from.getX (), dx, w, distance), inset (from.getY (), dy, h, distance));
+		final String msg = "Swiping [%s] from [%s] to [%s] while scrolling...";
+		log.trace (String.format (msg, this.direction, from, to));
+		GestureUtils.perform (device.getDriver (), GestureUtils.swipe ("finger", setting, from, to));
+		UiIdle.await (device.getDriver (), setting, GestureUtils.swipeDelays (setting));
+		device.screenChanged ();
+	}
+}
\ No newline at end of file
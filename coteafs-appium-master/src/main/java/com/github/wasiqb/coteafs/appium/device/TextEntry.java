@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static java.time.Duration.ofMillis;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.interactions.KeyInput;
+import org.openqa.selenium.interactions.Pause;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.remote.SessionId;
+
+import com.github.wasiqb.coteafs.appium.config.ApplicationType;
+import com.github.wasiqb.coteafs.appium.config.DeviceSetting;
+import com.github.wasiqb.coteafs.appium.config.PlatformType;
+import com.github.wasiqb.coteafs.appium.config.TextEntryStrategy;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.MobileElement;
+import io.appium.java_client.android.AndroidElement;
+
+/**
+ * Enters text in element with the strategy set in playback setting. When it is set to auto, text
+ * is sent as keys, typed with key actions only when key typing delay is set. Throughput of each
+ * strategy is measured in chars per second.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:54:46 PM
+ */
+public final class TextEntry {
+	private static final String								ADB_ESCAPE = "()<>|;&*\\~\"'`$";
+	private static final Map <TextEntryStrategy, LongAdder>	chars;
+	private static final Set <SessionId>					legacySessions;
+	private static final Logger								log;
+	private static final Map <TextEntryStrategy, LongAdder>	nanos;
+
+	static {
+		log = LogManager.getLogger (TextEntry.class);
+		legacySessions = ConcurrentHashMap.newKeySet ();
+		chars = new EnumMap <> (TextEntryStrategy.class);
+		nanos = new EnumMap <> (TextEntryStrategy.class);
+		for (final TextEntryStrategy strategy : TextEntryStrategy.values ()) {
+			chars.put (strategy, new LongAdder ());
+			nanos.put (strategy, new LongAdder ());
+		}
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:54:46 PM
+	 * @param strategy
+	 * @return chars entered per second with the strategy, 0 if it was never used
+	 */
+	public static double charsPerSecond (final TextEntryStrategy strategy) {
+		final long time = nanos.get (strategy)
+			.sum ();
+		return time == 0 ? 0 : chars.get (strategy)
+			.sum () * 1e9 / time;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:54:46 PM
+	 * @param text
+	 * @return text escaped for adb input command
+	 */
+	static String escape (final String text) {
+		final StringBuilder escaped = new StringBuilder ();
+		for (final char c : text.toCharArray ()) {
+			if (c == ' ') {
+				escaped.append ("%s");
+			}
+			else {
+				if (ADB_ESCAPE.indexOf (c) >= 0) {
+					escaped.append ('\\');
+				}
+				escaped.append (c);
+			}
+		}
+		return escaped.toString ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:54:46 PM
+	 * @param strategy
+	 * @param platform
+	 * @param delay
+	 * @return strategy to use for the device
+	 */
+	static TextEntryStrategy select (final TextEntryStrategy strategy, final PlatformType platform,
+			final long delay) {
+		if (strategy != TextEntryStrategy.AUTO) {
+			if (strategy == TextEntryStrategy.ADB && platform != PlatformType.ANDROID) {
+				return TextEntryStrategy.SEND_KEYS;
+			}
+			return strategy;
+		}
+		return delay > 0 ? TextEntryStrategy.KEYS : TextEntryStrategy.SEND_KEYS;
+	}
+
+	private static boolean isAscii (final String text) {
+		return text.chars ()
+			.allMatch (c -> c > 31 && c < 127);
+	}
+
+	private final ApplicationType				appType;
+	private final long							delay;
+	private final AppiumDriver <MobileElement>	driver;
+	private final PlatformType					platform;
+	private final TextEntryStrategy				strategy;
+
+	TextEntry (final Device <?> device) {
+		final DeviceSetting setting = device.getSetting ();
+		this.driver = device.getDriver ();
+		this.appType = setting.getAppType ();
+		this.platform = setting.getPlatformType ();
+		this.delay = setting.getKeyTypingDelay ();
+		this.strategy = setting.getPlayback ()
+			.getTextEntry ();
+	}
+
+	void enter (final MobileElement element, final String text, final boolean append, final Runnable tap) {
+		final TextEntryStrategy selected = select ();
+		if (selected != TextEntryStrategy.SET_VALUE && !focused (element)) {
+			tap.run ();
+		}
+		final long start = System.nanoTime ();
+		final TextEntryStrategy used = type (selected, element, text, append);
+		nanos.get (used)
+			.add (System.nanoTime () - start);
+		chars.get (used)
+			.add (text.length ());
+		final String msg = "Entered [%d] chars with [%s] strategy...";
+		log.trace (String.format (msg, text.length (), used));
+	}
+
+	private void adb (final String text) {
+		final Map <String, Object> args = new HashMap <> ();
+		args.put ("command", "input");
+		args.put ("args", Arrays.asList ("text", escape (text)));
+		this.driver.executeScript ("mobile: shell", args);
+	}
+
+	private boolean focused (final MobileElement element) {
+		try {
+			if (this.appType == ApplicationType.WEB) {
+				return element.equals (this.driver.switchTo ()
+					.activeElement ());
+			}
+			if (this.platform == PlatformType.ANDROID && this.appType == ApplicationType.NATIVE) {
+				return Boolean.parseBoolean (element.getAttribute ("focused"));
+			}
+		}
+		catch (final NoSuchSessionException e) {
+			throw e;
+		}
+		catch (final WebDriverException e) {
+			log.trace ("Could not check focus of element, tapping on it...");
+		}
+		return false;
+	}
+
+	private boolean keys (final String text) {
+		final SessionId session = this.driver.getSessionId ();
+		if (legacySessions.contains (session)) {
+			return false;
+		}
+		final KeyInput keyboard = new KeyInput ("keyboard");
+		final Sequence sequence = new Sequence (keyboard, 0);
+		text.codePoints ()
+			.forEach (c -> {
+				sequence.addAction (keyboard.createKeyDown (c));
+				sequence.addAction (keyboard.createKeyUp (c));
+				if (this.delay > 0) {
+					sequence.addAction (new Pause (keyboard, ofMillis (this.delay)));
+				}
+			});
+		try {
+			this.driver.perform (Arrays.asList (sequence));
+			return true;
+		}
+		catch (final UnsupportedCommandException e) {
+			final String msg = "Session [%s] does not support W3C actions, sending keys instead...";
+			log.warn (String.format (msg, session));
+			legacySessions.add (session);
+		}
+		return false;
+	}
+
+	private TextEntryStrategy select () {
+		return select (this.strategy, this.platform, this.delay);
+	}
+
+	private TextEntryStrategy type (final TextEntryStrategy selected, final MobileElement element, final String text,
+			final boolean append) {
+		if (selected == TextEntryStrategy.SET_VALUE && element instanceof AndroidElement) {
+			if (append) {
+				element.setValue (text);
+			}
+			else {
+				((AndroidElement) element).replaceValue (text);
+			}
+			return selected;
+		}
+		if (!append) {
+			element.clear ();
+		}
+		switch (selected) {
+			case ADB:
+				if (isAscii (text)) {
+					try {
+						adb (text);
+						return selected;
+					}
+					catch (final NoSuchSessionException e) {
+						throw e;
+					}
+					catch (final WebDriverException e) {
+						log.warn ("Typing with adb failed, falling back to send keys...");
+					}
+				}
+				element.sendKeys (text);
+				return TextEntryStrategy.SEND_KEYS;
+			case KEYS:
+				if (keys (text)) {
+					return selected;
+				}
+				element.sendKeys (text);
+				return TextEntryStrategy.SEND_KEYS;
+			case SET_VALUE:
+				element.setValue (text);
+				return selected;
+			case SEND_KEYS:
+			default:
+				element.sendKeys (text);
+				return TextEntryStrategy.SEND_KEYS;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.github.wasiqb.coteafs.appium.config.PlaybackSetting;
+import com.github.wasiqb.coteafs.appium.utils.GestureUtils;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.MobileElement;
+
+/**
+ * Waits for the UI to become idle after an action when auto delay is on, instead of sleeping for
+ * the configured delays. UI is idle when two page sources fetched one polling interval apart are
+ * same, and the configured delays are the most it waits.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:55:38 PM
+ */
+public final class UiIdle {
+	private static final Logger		log;
+	private static final LongAdder	saved;
+	private static final LongAdder	waited;
+
+	static {
+		log = LogManager.getLogger (UiIdle.class);
+		saved = new LongAdder ();
+		waited = new LongAdder ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:55:38 PM
+	 * @return millis saved compared to the configured delays
+	 */
+	public static long getTimeSaved () {
+		return saved.sum ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:55:38 PM
+	 * @return millis spent waiting for UI to become idle
+	 */
+	public static long getTimeWaited () {
+		return waited.sum ();
+	}
+
+	static void await (final AppiumDriver <MobileElement> driver, final PlaybackSetting setting, final long bound) {
+		if (!setting.isAutoDelay () || bound <= 0) {
+			return;
+		}
+		final long start = System.currentTimeMillis ();
+		final long end = start + bound;
+		int previous = driver.getPageSource ()
+			.hashCode ();
+		while (System.currentTimeMillis () < end) {
+			GestureUtils.pause (Math.min (setting.getPollingInterval (), end - System.currentTimeMillis ()));
+			final int current = driver.getPageSource ()
+				.hashCode ();
+			if (current == previous) {
+				break;
+			}
+			previous = current;
+		}
+		final long time = System.currentTimeMillis () - start;
+		waited.add (time);
+		saved.add (Math.max (0, bound - time));
+		final String msg = "Waited [%d] ms for UI to become idle, saved [%d] ms...";
+		log.trace (String.format (msg, time, Math.max (0, bound - time)));
+	}
+
+	private UiIdle () {
+		// Utility class.
+	}
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.error;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:53:10 PM
+ */
+public class DeviceElementActionFailedError extends CoteafsAppiumError {
+	private static final long serialVersionUID = 4937652283517762390L;
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:10 PM
+	 * @param message
+	 */
+	public DeviceElementActionFailedError (final String message) {
+		super (message);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:10 PM
+	 * @param message
+	 * @param cause
+	 */
+	public DeviceElementActionFailedError (final String message, final Throwable cause) {
+		super (message, cause);
+	}
+}
\ No newline at end of file
@@ -61,6 +61,6 @@ public abstract class IOSActivity extends DeviceActivity <IOSDriver <MobileEleme
 	public IOSDeviceElementActions onElement (final String name) {
 		final String msg = "Preparing to perform actions on iOS device element [%s]...";
 		log.trace (String.format (msg, name));
-		return new IOSDeviceElementActions (this.device, name, getElement (name));
+		return prepareActions (name, e -> new IOSDeviceElementActions (this.device, name, e));
 	}
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ package com.github.wasiqb.coteafs.appium.ios;
 
 import com.github.wasiqb.coteafs.appium.device.Device;
 import com.github.wasiqb.coteafs.appium.service.AppiumServer;
+import com.github.wasiqb.coteafs.appium.service.AppiumServerPool;
 
 import io.appium.java_client.MobileElement;
 import io.appium.java_client.ios.IOSDriver;
@@ -35,4 +36,14 @@ public class IOSDevice extends Device <IOSDriver <MobileElement>> {
 	public IOSDevice (final AppiumServer server, final String name) {
 		super (server, name);
 	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:31:32 AM
+	 * @param serverPool
+	 * @param name
+	 */
+	public IOSDevice (final AppiumServerPool serverPool, final String name) {
+		super (serverPool, name);
+	}
 }
\ No newline at end of file
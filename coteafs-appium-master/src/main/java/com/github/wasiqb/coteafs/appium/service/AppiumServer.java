@@ -15,8 +15,6 @@
  */
 package com.github.wasiqb.coteafs.appium.service;
 
-import static com.github.wasiqb.coteafs.appium.constants.ConfigKeys.COTEAFS_CONFIG_DEFAULT_FILE;
-import static com.github.wasiqb.coteafs.appium.constants.ConfigKeys.COTEAFS_CONFIG_KEY;
 import static com.github.wasiqb.coteafs.appium.utils.CapabilityUtils.setCapability;
 import static com.github.wasiqb.coteafs.appium.utils.ErrorUtils.fail;
 import static io.appium.java_client.service.local.flags.AndroidServerFlag.BOOTSTRAP_PORT_NUMBER;
@@ -43,16 +41,21 @@ import java.net.Socket;
 import java.net.SocketAddress;
 import java.net.URL;
 import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.http.HttpClient;
 
 import com.github.wasiqb.coteafs.appium.checker.ServerChecker;
 import com.github.wasiqb.coteafs.appium.config.AndroidArgumentSetting;
-import com.github.wasiqb.coteafs.appium.config.AppiumSetting;
+import com.github.wasiqb.coteafs.appium.config.AppiumSettingCache;
+import com.github.wasiqb.coteafs.appium.config.HttpClientSetting;
+import com.github.wasiqb.coteafs.appium.config.HttpClientType;
 import com.github.wasiqb.coteafs.appium.config.IOSArgumentSetting;
 import com.github.wasiqb.coteafs.appium.config.ServerArgumentSetting;
 import com.github.wasiqb.coteafs.appium.config.ServerSetting;
@@ -61,7 +64,6 @@ import com.github.wasiqb.coteafs.appium.error.AppiumServerLogFileError;
 import com.github.wasiqb.coteafs.appium.error.AppiumServerNotRunningError;
 import com.github.wasiqb.coteafs.appium.error.AppiumServerNotStartingError;
 import com.github.wasiqb.coteafs.appium.error.AppiumServerNotStoppingError;
-import com.github.wasiqb.coteafs.config.loader.ConfigLoader;
 
 import io.appium.java_client.remote.MobileCapabilityType;
 import io.appium.java_client.service.local.AppiumDriverLocalService;
@@ -80,8 +82,14 @@ public final class AppiumServer {
 		log = LogManager.getLogger (AppiumServer.class);
 	}
 
+	private final int					bootstrapPort;
 	private AppiumServiceBuilder		builder;
+	private final int					callbackPort;
 	private DesiredCapabilities			capabilities;
+	private final int					chromeDriverPort;
+	private HttpClient.Factory			httpClientFactory;
+	private final ServerHealthMonitor	monitor;
+	private final int					port;
 	private AppiumDriverLocalService	service;
 	private final ServerSetting			setting;
 
@@ -91,11 +99,42 @@ public final class AppiumServer {
 	 * @since 13-Apr-2017 7:33:24 PM
 	 */
 	public AppiumServer (final String name) {
-		this.setting = ConfigLoader.settings ()
-			.withKey (COTEAFS_CONFIG_KEY)
-			.withDefault (COTEAFS_CONFIG_DEFAULT_FILE)
-			.load (AppiumSetting.class)
-			.getServer (name);
+		this (name, 0);
+	}
+
+	/**
+	 * @author agent
+	 * @param name
+	 * @param port
+	 *            port to use instead of the configured port, ignored when 0
+	 * @since Oct 17, 2026 10:36:41 PM
+	 */
+	public AppiumServer (final String name, final int port) {
+		this (name, port, 0, 0, 0);
+	}
+
+	/**
+	 * @author agent
+	 * @param name
+	 * @param port
+	 *            port to use instead of the configured port, ignored when 0
+	 * @param bootstrapPort
+	 *            Android bootstrap port to use instead of the configured one, ignored when 0
+	 * @param chromeDriverPort
+	 *            chromedriver port to use instead of the configured one, ignored when 0
+	 * @param callbackPort
+	 *            callback port to use instead of the configured one, ignored when 0 or when no callback port
+	 *            is configured
+	 * @since Oct 17, 2026 11:07:57 PM
+	 */
+	AppiumServer (final String name, final int port, final int bootstrapPort, final int chromeDriverPort,
+			final int callbackPort) {
+		this.setting = AppiumSettingCache.server (name);
+		this.port = port > 0 ? port : this.setting.getPort ();
+		this.bootstrapPort = bootstrapPort;
+		this.chromeDriverPort = chromeDriverPort;
+		this.callbackPort = callbackPort;
+		this.monitor = new ServerHealthMonitor (this::getServiceUrl, this.setting);
 		if (!this.setting.isExternal ()) {
 			initService ();
 			buildCapabilities ();
@@ -103,6 +142,20 @@ public final class AppiumServer {
 		}
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:38:22 PM
+	 * @return HTTP client factory for driver sessions, null for default client
+	 */
+	public synchronized HttpClient.Factory getHttpClientFactory () {
+		final HttpClientSetting client = this.setting.getHttpClient ();
+		if (this.httpClientFactory == null && client != null && client.getType () == HttpClientType.POOLED) {
+			log.trace ("Building pooled HTTP client factory...");
+			this.httpClientFactory = new PooledHttpClientFactory (client);
+		}
+		return this.httpClientFactory;
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since 13-Apr-2017 3:28:14 PM
@@ -113,7 +166,7 @@ public final class AppiumServer {
 		if (!this.setting.isExternal ()) {
 			return this.service.getUrl ();
 		}
-		final String url = String.format ("http://%s:%d/wd/hub", this.setting.getIp (), this.setting.getPort ());
+		final String url = String.format ("http://%s:%d/wd/hub", this.setting.getIp (), this.port);
 		try {
 			return new URL (url);
 		}
@@ -124,6 +177,15 @@ public final class AppiumServer {
 		return null;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:37:14 PM
+	 * @return cached health state of the server
+	 */
+	public boolean isHealthy () {
+		return this.monitor.isHealthy ();
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since 13-Apr-2017 5:30:12 PM
@@ -132,9 +194,9 @@ public final class AppiumServer {
 	public boolean isRunning () {
 		if (!this.setting.isExternal ()) {
 			log.trace ("Checking if Appium Service is running...");
-			return this.service.isRunning ();
+			return this.service != null && this.service.isRunning ();
 		}
-		final SocketAddress addr = new InetSocketAddress (this.setting.getIp (), this.setting.getPort ());
+		final SocketAddress addr = new InetSocketAddress (this.setting.getIp (), this.port);
 		try (Socket socket = new Socket ()) {
 			socket.connect (addr, 2000);
 		}
@@ -168,6 +230,31 @@ public final class AppiumServer {
 				log.trace ("Appium Service is already running...");
 			}
 		}
+		this.monitor.start ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:35:12 PM
+	 * @return future which completes when server is started
+	 */
+	public CompletableFuture <Void> startAsync () {
+		return startAsync (task -> {
+			final Thread thread = new Thread (task, "appium-server-start");
+			thread.setDaemon (true);
+			thread.start ();
+		});
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:35:12 PM
+	 * @param executor
+	 * @return future which completes when server is started
+	 */
+	public CompletableFuture <Void> startAsync (final Executor executor) {
+		log.trace ("Starting Appium Service asynchronously...");
+		return CompletableFuture.runAsync (this::start, executor);
 	}
 
 	/**
@@ -176,6 +263,7 @@ public final class AppiumServer {
 	 */
 	public void stop () {
 		log.trace ("Trying to stop Appium Service...");
+		this.monitor.stop ();
 		if (!this.setting.isExternal ()) {
 			try {
 				this.service.stop ();
@@ -278,11 +366,13 @@ public final class AppiumServer {
 			setArgument (WEBKIT_DEBUG_PROXY_PORT, ios.getWebkitDebugProxyPort ());
 		}
 		if (android != null) {
-			setArgument (BOOTSTRAP_PORT_NUMBER, android.getBootstrapPort ());
-			setArgument (CHROME_DRIVER_PORT, android.getChromeDriverPort ());
 			setArgument (CHROME_DRIVER_EXECUTABLE, android.getChromeDriverExePath ());
 			setArgument (SUPPRESS_ADB_KILL_SERVER, android.isSuppressAdbKillServer ());
 		}
+		setArgument (BOOTSTRAP_PORT_NUMBER, this.bootstrapPort > 0 ? this.bootstrapPort
+				: android != null ? android.getBootstrapPort () : 0);
+		setArgument (CHROME_DRIVER_PORT, this.chromeDriverPort > 0 ? this.chromeDriverPort
+				: android != null ? android.getChromeDriverPort () : 0);
 		setArgument (LOG_LEVEL, args.getLogLevel ()
 			.toString ());
 		setArgument (SESSION_OVERRIDE, args.isSessionOverride ());
@@ -290,7 +380,8 @@ public final class AppiumServer {
 		setArgument (LOCAL_TIMEZONE, args.isLocalTimeZone ());
 		setArgument (CONFIGURATION_FILE, args.getNodeConfigFile ());
 		setArgument (CALLBACK_ADDRESS, args.getCallbackIp ());
-		setArgument (CALLBACK_PORT, args.getCallbackPort ());
+		setArgument (CALLBACK_PORT, this.callbackPort > 0 && args.getCallbackPort () > 0 ? this.callbackPort
+				: args.getCallbackPort ());
 	}
 
 	/**
@@ -314,8 +405,11 @@ public final class AppiumServer {
 	 * @since Oct 27, 2017 3:00:49 PM
 	 */
 	private void setLogFile () {
-		final String logFilePath = this.setting.getLogFilePath ();
+		String logFilePath = this.setting.getLogFilePath ();
 		if (logFilePath != null) {
+			if (this.port != this.setting.getPort ()) {
+				logFilePath = logFilePath.replaceFirst ("(\\.log)?$", String.format ("-%d$0", this.port));
+			}
 			final File logFile = new File (logFilePath);
 			try {
 				if (logFile.exists ()) {
@@ -341,8 +435,8 @@ public final class AppiumServer {
 	 * @since Oct 27, 2017 12:42:30 PM
 	 */
 	private void setPort () {
-		if (this.setting.getPort () > 0) {
-			this.builder = this.builder.usingPort (this.setting.getPort ());
+		if (this.port > 0) {
+			this.builder = this.builder.usingPort (this.port);
 		}
 		else {
 			this.builder = this.builder.usingAnyFreePort ();
@@ -0,0 +1,352 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.service;
+
+import static com.github.wasiqb.coteafs.appium.utils.ErrorUtils.fail;
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.github.wasiqb.coteafs.appium.config.AppiumSettingCache;
+import com.github.wasiqb.coteafs.appium.error.AppiumServerNotStartingError;
+
+/**
+ * Runs several local Appium servers for the same server config and assigns device sessions to the least loaded
+ * healthy one. Every server gets its own Appium, bootstrap, chromedriver and callback ports, and dead servers are
+ * restarted in background.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:36:41 PM
+ */
+public final class AppiumServerPool {
+	private static final class Member {
+		private final AtomicInteger	active;
+		private volatile double		latency;
+		private final AppiumServer	server;
+
+		private Member (final AppiumServer server) {
+			this.server = server;
+			this.active = new AtomicInteger ();
+		}
+
+		private double score () {
+			return AppiumServerPool.score (this.active.get (), this.latency);
+		}
+	}
+
+	private static final double	LATENCY_WEIGHT	= 0.3;
+	private static final int	START_ATTEMPTS	= 3;
+	private static final Logger	log;
+
+	static {
+		log = LogManager.getLogger (AppiumServerPool.class);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 11:07:57 PM
+	 * @param healthy
+	 * @param score
+	 * @param bestHealthy
+	 * @param bestScore
+	 * @return true if server is a better choice than the best one so far, healthy servers first
+	 */
+	static boolean isBetter (final boolean healthy, final double score, final boolean bestHealthy,
+			final double bestScore) {
+		return healthy != bestHealthy ? healthy : score < bestScore;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:41 PM
+	 * @param average
+	 * @param observed
+	 * @return moving average of command latency in millis
+	 */
+	static double latency (final double average, final long observed) {
+		return LATENCY_WEIGHT * observed + (1 - LATENCY_WEIGHT) * average;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:41 PM
+	 * @param active
+	 * @param latency
+	 * @return load score of server, lower is better
+	 */
+	static double score (final int active, final double latency) {
+		return (active + 1) * (latency + 1);
+	}
+
+	private static int freePort (final Set <Integer> used) {
+		for (int i = 0; i < 10; i++) {
+			try (ServerSocket socket = new ServerSocket (0)) {
+				socket.setReuseAddress (true);
+				final int port = socket.getLocalPort ();
+				if (used.add (port)) {
+					return port;
+				}
+			}
+			catch (final IOException e) {
+				log.catching (e);
+			}
+		}
+		fail (AppiumServerNotStartingError.class, "Unable to allocate free port for Appium server.");
+		return 0;
+	}
+
+	private final List <Member>			members;
+	private final String				name;
+	private final int					size;
+	private ScheduledExecutorService	watchdog;
+
+	/**
+	 * @author agent
+	 * @param name
+	 * @param size
+	 * @since Oct 17, 2026 10:36:41 PM
+	 */
+	public AppiumServerPool (final String name, final int size) {
+		if (AppiumSettingCache.server (name)
+			.isExternal ()) {
+			final String msg = "Server pool cannot be created for external server [%s].";
+			fail (AppiumServerNotStartingError.class, format (msg, name));
+		}
+		this.name = name;
+		this.size = Math.max (1, size);
+		this.members = new ArrayList <> ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:41 PM
+	 * @return least loaded healthy server
+	 */
+	public AppiumServer acquire () {
+		Member selected = null;
+		synchronized (this.members) {
+			boolean healthy = false;
+			for (final Member member : this.members) {
+				final boolean up = member.server.isHealthy ();
+				if (selected == null || isBetter (up, member.score (), healthy, selected.score ())) {
+					selected = member;
+					healthy = up;
+				}
+			}
+			if (selected == null) {
+				fail (AppiumServerNotStartingError.class, format ("Server pool [%s] not started yet.", this.name));
+			}
+			selected.active.incrementAndGet ();
+		}
+		if (!selected.server.isRunning ()) {
+			try {
+				restart (selected);
+			}
+			catch (final RuntimeException e) {
+				selected.active.decrementAndGet ();
+				throw e;
+			}
+		}
+		log.trace (format ("Assigned server [%s] from [%s] pool...", selected.server.getServiceUrl (), this.name));
+		return selected.server;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:41 PM
+	 * @param server
+	 */
+	public void release (final AppiumServer server) {
+		release (server, -1);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:41 PM
+	 * @param server
+	 * @param latency
+	 *            observed command latency in millis, ignored when negative
+	 */
+	public void release (final AppiumServer server, final long latency) {
+		final Member member = member (server);
+		if (member != null) {
+			member.active.decrementAndGet ();
+			if (latency >= 0) {
+				member.latency = latency (member.latency, latency);
+			}
+		}
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:41 PM
+	 */
+	public void start () {
+		log.trace (format ("Starting [%d] servers in [%s] pool...", this.size, this.name));
+		final Set <Integer> used = ConcurrentHashMap.newKeySet ();
+		final List <CompletableFuture <AppiumServer>> futures = new ArrayList <> ();
+		for (int i = 0; i < this.size; i++) {
+			futures.add (CompletableFuture.supplyAsync (() -> launch (used), task -> {
+				final Thread thread = new Thread (task, "appium-server-start");
+				thread.setDaemon (true);
+				thread.start ();
+			}));
+		}
+		try {
+			CompletableFuture.allOf (futures.toArray (new CompletableFuture [futures.size ()]))
+				.join ();
+		}
+		catch (final CompletionException e) {
+			for (final CompletableFuture <AppiumServer> future : futures) {
+				future.thenAccept (this::add);
+			}
+			stop ();
+			fail (AppiumServerNotStartingError.class, format ("Error occured while starting [%s] pool.", this.name),
+					e.getCause ());
+		}
+		for (final CompletableFuture <AppiumServer> future : futures) {
+			add (future.join ());
+		}
+		startWatchdog ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:41 PM
+	 */
+	public void stop () {
+		synchronized (this) {
+			if (this.watchdog != null) {
+				this.watchdog.shutdownNow ();
+				this.watchdog = null;
+			}
+		}
+		synchronized (this.members) {
+			for (final Member member : this.members) {
+				try {
+					if (member.server.isRunning ()) {
+						member.server.stop ();
+					}
+				}
+				catch (final Exception e) {
+					log.warn (format ("Error occurred while stopping server of [%s] pool...", this.name));
+					log.catching (e);
+				}
+			}
+			this.members.clear ();
+		}
+	}
+
+	private void add (final AppiumServer server) {
+		synchronized (this.members) {
+			this.members.add (new Member (server));
+		}
+	}
+
+	private AppiumServer launch (final Set <Integer> used) {
+		RuntimeException error = null;
+		for (int i = 0; i < START_ATTEMPTS; i++) {
+			final AppiumServer server = new AppiumServer (this.name, freePort (used), freePort (used),
+					freePort (used), freePort (used));
+			try {
+				server.start ();
+				return server;
+			}
+			catch (final RuntimeException e) {
+				final String msg = "Server of [%s] pool failed to start, retrying with other ports...";
+				log.warn (format (msg, this.name));
+				error = e;
+			}
+		}
+		throw error;
+	}
+
+	private Member member (final AppiumServer server) {
+		synchronized (this.members) {
+			for (final Member member : this.members) {
+				if (member.server == server) {
+					return member;
+				}
+			}
+		}
+		return null;
+	}
+
+	private void restart (final Member member) {
+		synchronized (member) {
+			if (member.server.isRunning ()) {
+				return;
+			}
+			log.warn (format ("Restarting dead server [%s] of [%s] pool...", member.server.getServiceUrl (),
+					this.name));
+			try {
+				member.server.stop ();
+			}
+			catch (final RuntimeException e) {
+				log.warn (format ("Error occurred while stopping dead server of [%s] pool...", this.name));
+				log.catching (e);
+			}
+			member.server.start ();
+			member.latency = 0;
+		}
+	}
+
+	private synchronized void startWatchdog () {
+		if (this.watchdog != null) {
+			return;
+		}
+		this.watchdog = Executors.newSingleThreadScheduledExecutor (task -> {
+			final Thread thread = new Thread (task, "appium-server-pool");
+			thread.setDaemon (true);
+			return thread;
+		});
+		final long interval = AppiumSettingCache.server (this.name)
+			.getHealthCheckInterval ();
+		this.watchdog.scheduleWithFixedDelay (this::watch, interval, Math.max (1, interval), TimeUnit.MILLISECONDS);
+	}
+
+	private void watch () {
+		final List <Member> snapshot;
+		synchronized (this.members) {
+			snapshot = new ArrayList <> (this.members);
+		}
+		for (final Member member : snapshot) {
+			try {
+				if (!member.server.isRunning ()) {
+					restart (member);
+				}
+			}
+			catch (final RuntimeException e) {
+				log.warn (format ("Error occurred while restarting server of [%s] pool...", this.name));
+				log.catching (e);
+			}
+		}
+	}
+}
\ No newline at end of file
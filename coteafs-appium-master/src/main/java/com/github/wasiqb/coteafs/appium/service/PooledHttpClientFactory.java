@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.net.SocketFactory;
+
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.internal.OkHttpClient;
+
+import com.github.wasiqb.coteafs.appium.config.HttpClientSetting;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * HTTP client factory which shares one keep-alive connection pool for all the driver sessions of a server.
+ * At most max connections sockets are open to the server at a time, and a request needing another one waits
+ * up to the connect timeout for a socket to close. Creating a session waits for the response up to the
+ * session timeout instead of the read timeout, as installing and launching the app can take long.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:38:22 PM
+ */
+public class PooledHttpClientFactory implements HttpClient.Factory {
+	private static final class LimitedSocket extends Socket {
+		private final AtomicBoolean	closed;
+		private final Semaphore		permits;
+
+		private LimitedSocket (final Semaphore permits) {
+			this.closed = new AtomicBoolean ();
+			this.permits = permits;
+		}
+
+		@Override
+		public synchronized void close () throws IOException {
+			try {
+				super.close ();
+			}
+			finally {
+				if (this.closed.compareAndSet (false, true)) {
+					this.permits.release ();
+				}
+			}
+		}
+	}
+
+	private final class LimitedSocketFactory extends SocketFactory {
+		private final Semaphore	permits;
+		private final int		timeout;
+
+		private LimitedSocketFactory (final int maxConnections, final int timeout) {
+			this.permits = new Semaphore (maxConnections, true);
+			this.timeout = timeout;
+		}
+
+		@Override
+		public Socket createSocket () throws IOException {
+			if (!this.permits.tryAcquire ()) {
+				PooledHttpClientFactory.this.pool.evictAll ();
+				acquire ();
+			}
+			final Socket socket = new LimitedSocket (this.permits);
+			socket.setTcpNoDelay (true);
+			socket.setKeepAlive (true);
+			return socket;
+		}
+
+		@Override
+		public Socket createSocket (final InetAddress host, final int port) throws IOException {
+			return connect (createSocket (), null, new InetSocketAddress (host, port));
+		}
+
+		@Override
+		public Socket createSocket (final InetAddress address, final int port, final InetAddress localAddress,
+				final int localPort) throws IOException {
+			return connect (createSocket (), new InetSocketAddress (localAddress, localPort),
+					new InetSocketAddress (address, port));
+		}
+
+		@Override
+		public Socket createSocket (final String host, final int port) throws IOException {
+			return connect (createSocket (), null, new InetSocketAddress (host, port));
+		}
+
+		@Override
+		public Socket createSocket (final String host, final int port, final InetAddress localHost,
+				final int localPort) throws IOException {
+			return connect (createSocket (), new InetSocketAddress (localHost, localPort),
+					new InetSocketAddress (host, port));
+		}
+
+		private void acquire () throws IOException {
+			try {
+				if (!this.permits.tryAcquire (this.timeout, TimeUnit.SECONDS)) {
+					final String msg = "No free HTTP connection within [%d] seconds.";
+					throw new SocketTimeoutException (String.format (msg, this.timeout));
+				}
+			}
+			catch (final InterruptedException e) {
+				Thread.currentThread ()
+					.interrupt ();
+				throw new InterruptedIOException ("Interrupted while waiting for HTTP connection.");
+			}
+		}
+
+		private Socket connect (final Socket socket, final InetSocketAddress local, final InetSocketAddress remote)
+				throws IOException {
+			try {
+				if (local != null) {
+					socket.bind (local);
+				}
+				socket.connect (remote);
+				return socket;
+			}
+			catch (final IOException e) {
+				socket.close ();
+				throw e;
+			}
+		}
+	}
+
+	private static Response timeout (final int sessionTimeout, final Interceptor.Chain chain) throws IOException {
+		final Request request = chain.request ();
+		if ("POST".equals (request.method ()) && request.url ()
+			.encodedPath ()
+			.endsWith ("/session")) {
+			return chain.withReadTimeout (sessionTimeout, TimeUnit.SECONDS)
+				.proceed (request);
+		}
+		return chain.proceed (request);
+	}
+
+	private final okhttp3.OkHttpClient	client;
+	private final ConnectionPool		pool;
+
+	/**
+	 * @author agent
+	 * @param setting
+	 * @since Oct 17, 2026 10:38:22 PM
+	 */
+	public PooledHttpClientFactory (final HttpClientSetting setting) {
+		final int maxConnections = Math.max (1, setting.getMaxConnections ());
+		this.pool = new ConnectionPool (maxConnections, setting.getKeepAlive (), TimeUnit.SECONDS);
+		this.client = new okhttp3.OkHttpClient.Builder ().connectionPool (this.pool)
+			.socketFactory (new LimitedSocketFactory (maxConnections, setting.getConnectTimeout ()))
+			.connectTimeout (setting.getConnectTimeout (), TimeUnit.SECONDS)
+			.readTimeout (setting.getReadTimeout (), TimeUnit.SECONDS)
+			.writeTimeout (setting.getReadTimeout (), TimeUnit.SECONDS)
+			.retryOnConnectionFailure (true)
+			.followRedirects (true)
+			.addInterceptor (chain -> timeout (setting.getSessionTimeout (), chain))
+			.build ();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openqa.selenium.remote.http.HttpClient.Factory#cleanupIdleClients()
+	 */
+	@Override
+	public void cleanupIdleClients () {
+		this.pool.evictAll ();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openqa.selenium.remote.http.HttpClient.Factory#createClient(java.net.URL)
+	 */
+	@Override
+	public HttpClient createClient (final URL url) {
+		return new OkHttpClient (this.client, url);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.service;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.github.wasiqb.coteafs.appium.config.ServerSetting;
+
+/**
+ * Probes server status in background and keeps the last known health state so that health checks do not need
+ * any I/O. Health checks never probe themselves, a state older than the cache TTL is treated as unknown and
+ * reported as not healthy.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:37:14 PM
+ */
+final class ServerHealthMonitor {
+	private static final int	PROBE_TIMEOUT	= 2000;
+	private static final Logger	log;
+
+	static {
+		log = LogManager.getLogger (ServerHealthMonitor.class);
+	}
+
+	private volatile long				checkedAt;
+	private volatile boolean			healthy;
+	private ScheduledExecutorService	scheduler;
+	private final Supplier <URL>		serviceUrl;
+	private final ServerSetting			setting;
+
+	ServerHealthMonitor (final Supplier <URL> serviceUrl, final ServerSetting setting) {
+		this.serviceUrl = serviceUrl;
+		this.setting = setting;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:37:14 PM
+	 * @return cached health state, false when server was not probed within cache TTL
+	 */
+	boolean isHealthy () {
+		return this.healthy && System.currentTimeMillis () - this.checkedAt <= this.setting.getHealthCacheTtl ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:37:14 PM
+	 */
+	synchronized void start () {
+		if (this.scheduler != null) {
+			return;
+		}
+		log.trace ("Starting server health monitor...");
+		probe ();
+		this.scheduler = Executors.newSingleThreadScheduledExecutor (task -> {
+			final Thread thread = new Thread (task, "appium-server-health");
+			thread.setDaemon (true);
+			return thread;
+		});
+		final long interval = this.setting.getHealthCheckInterval ();
+		this.scheduler.scheduleWithFixedDelay (this::probe, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:37:14 PM
+	 */
+	synchronized void stop () {
+		if (this.scheduler != null) {
+			log.trace ("Stopping server health monitor...");
+			this.scheduler.shutdownNow ();
+			this.scheduler = null;
+		}
+		this.healthy = false;
+		this.checkedAt = 0;
+	}
+
+	private void probe () {
+		boolean status = false;
+		HttpURLConnection connection = null;
+		try {
+			final URL url = this.serviceUrl.get ();
+			if (url != null) {
+				connection = (HttpURLConnection) new URL (format ("%s/status", url)).openConnection ();
+				connection.setConnectTimeout (PROBE_TIMEOUT);
+				connection.setReadTimeout (PROBE_TIMEOUT);
+				status = connection.getResponseCode () == HttpURLConnection.HTTP_OK;
+			}
+		}
+		catch (final IOException | RuntimeException e) {
+			log.trace (format ("Server status probe failed: %s", e.getMessage ()));
+		}
+		finally {
+			if (connection != null) {
+				connection.disconnect ();
+			}
+		}
+		if (status != this.healthy) {
+			log.trace (format ("Server health changed to [%s]...", status ? "UP" : "DOWN"));
+		}
+		this.healthy = status;
+		this.checkedAt = System.currentTimeMillis ();
+	}
+}
\ No newline at end of file
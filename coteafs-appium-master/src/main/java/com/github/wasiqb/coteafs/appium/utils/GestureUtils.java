@@ -0,0 +1,397 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.utils;
+
+import static java.lang.String.format;
+import static java.time.Duration.ofMillis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Pause;
+import org.openqa.selenium.interactions.PointerInput;
+import org.openqa.selenium.interactions.PointerInput.Kind;
+import org.openqa.selenium.interactions.PointerInput.MouseButton;
+import org.openqa.selenium.interactions.PointerInput.Origin;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.remote.SessionId;
+
+import com.github.wasiqb.coteafs.appium.config.PlaybackSetting;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.MobileElement;
+import io.appium.java_client.MultiTouchAction;
+import io.appium.java_client.TouchAction;
+
+/**
+ * Gestures built on W3C pointer actions with delays and durations in millis. W3C actions need a W3C session,
+ * i.e. UiAutomator2 or XCUITest automation. When a session rejects them, like the default UiAutomator1
+ * ([APPIUM] automation name) session, the same gestures are replayed as touch actions for rest of that session.
+ * Touch action moves are relative to the previous position, so replayed moves are offsets from where the finger is.
+ *
+ * @author agent
+ * @since Oct 17, 2026 10:52:08 PM
+ */
+public final class GestureUtils {
+	private static final Set <SessionId>	legacySessions;
+	private static final Logger				log;
+
+	static {
+		log = LogManager.getLogger (GestureUtils.class);
+		legacySessions = ConcurrentHashMap.newKeySet ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param rect
+	 * @return center of rect
+	 */
+	public static Point center (final Rectangle rect) {
+		return new Point (rect.getX () + rect.getWidth () / 2, rect.getY () + rect.getHeight () / 2);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param setting
+	 * @return delay after swipe in millis, 0 when auto delay is on
+	 */
+	public static long delayAfterSwipe (final PlaybackSetting setting) {
+		return delay (setting, setting.getDelayAfterSwipeMs (), setting.getDelayAfterSwipe ());
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param setting
+	 * @return delay after tap in millis, 0 when auto delay is on
+	 */
+	public static long delayAfterTap (final PlaybackSetting setting) {
+		return delay (setting, setting.getDelayAfterTapMs (), setting.getDelayAfterTap ());
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param setting
+	 * @return delay before swipe in millis, 0 when auto delay is on
+	 */
+	public static long delayBeforeSwipe (final PlaybackSetting setting) {
+		return delay (setting, setting.getDelayBeforeSwipeMs (), setting.getDelayBeforeSwipe ());
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param setting
+	 * @return delay before tap in millis, 0 when auto delay is on
+	 */
+	public static long delayBeforeTap (final PlaybackSetting setting) {
+		return delay (setting, setting.getDelayBeforeTapMs (), setting.getDelayBeforeTap ());
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param driver
+	 * @param setting
+	 * @param point
+	 */
+	public static void longPress (final AppiumDriver <MobileElement> driver, final PlaybackSetting setting,
+			final Point point) {
+		perform (driver, sequence ("finger", delayBeforeTap (setting), point, setting.getLongPressDurationMs (), null,
+				0, delayAfterTap (setting)));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param millis
+	 */
+	public static void pause (final long millis) {
+		if (millis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep (millis);
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread ()
+				.interrupt ();
+			throw new WebDriverException (e);
+		}
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param driver
+	 * @param sequences
+	 *            one sequence for each finger, all performed together, as touch actions when session does not
+	 *            support W3C actions
+	 */
+	public static void perform (final AppiumDriver <MobileElement> driver, final Sequence... sequences) {
+		final SessionId session = driver.getSessionId ();
+		if (!legacySessions.contains (session)) {
+			try {
+				driver.perform (Arrays.asList (sequences));
+				return;
+			}
+			catch (final UnsupportedCommandException e) {
+				final String msg = "Session [%s] does not support W3C actions, using touch actions instead...";
+				log.warn (format (msg, session));
+				legacySessions.add (session);
+			}
+		}
+		performTouch (driver, sequences);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:10 PM
+	 * @param finger
+	 * @param setting
+	 * @param points
+	 * @param holds
+	 *            millis to hold each point, 0 for a tap
+	 * @return sequence pressing all the points one after the other with single finger
+	 */
+	public static Sequence press (final String finger, final PlaybackSetting setting, final List <Point> points,
+			final List <Long> holds) {
+		final PointerInput input = new PointerInput (Kind.TOUCH, finger);
+		final Sequence sequence = new Sequence (input, 0);
+		for (int i = 0; i < points.size (); i++) {
+			append (input, sequence, delayBeforeTap (setting), Origin.viewport (), points.get (i), holds.get (i), null,
+					0, delayAfterTap (setting));
+		}
+		return sequence;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param finger
+	 * @param setting
+	 * @param from
+	 * @param to
+	 * @return swipe sequence for the finger
+	 */
+	public static Sequence swipe (final String finger, final PlaybackSetting setting, final Point from,
+			final Point to) {
+		return sequence (finger, 0, from, delayBeforeSwipe (setting), to, setting.getSwipeDurationMs (),
+				delayAfterSwipe (setting));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:55:38 PM
+	 * @param setting
+	 * @return configured delays before and after swipe in millis
+	 */
+	public static long swipeDelays (final PlaybackSetting setting) {
+		return millis (setting.getDelayBeforeSwipeMs (), setting.getDelayBeforeSwipe ())
+				+ millis (setting.getDelayAfterSwipeMs (), setting.getDelayAfterSwipe ());
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:28:12 AM
+	 * @param finger
+	 * @param setting
+	 * @param element
+	 * @return sequence tapping on center of element, located by the device so its rect is not fetched
+	 */
+	public static Sequence tap (final String finger, final PlaybackSetting setting, final WebElement element) {
+		final PointerInput input = new PointerInput (Kind.TOUCH, finger);
+		final Sequence sequence = new Sequence (input, 0);
+		append (input, sequence, delayBeforeTap (setting), Origin.fromElement (element), new Point (0, 0), 0, null, 0,
+				delayAfterTap (setting));
+		return sequence;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 * @param driver
+	 * @param setting
+	 * @param point
+	 */
+	public static void tap (final AppiumDriver <MobileElement> driver, final PlaybackSetting setting,
+			final Point point) {
+		perform (driver, sequence ("finger", delayBeforeTap (setting), point, 0, null, 0, delayAfterTap (setting)));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:55:38 PM
+	 * @param setting
+	 * @return configured delays before and after tap in millis
+	 */
+	public static long tapDelays (final PlaybackSetting setting) {
+		return millis (setting.getDelayBeforeTapMs (), setting.getDelayBeforeTap ())
+				+ millis (setting.getDelayAfterTapMs (), setting.getDelayAfterTap ());
+	}
+
+	private static void append (final PointerInput finger, final Sequence sequence, final long before,
+			final Origin origin, final Point from, final long hold, final Point to, final long move,
+			final long after) {
+		if (before > 0) {
+			sequence.addAction (new Pause (finger, ofMillis (before)));
+		}
+		sequence.addAction (finger.createPointerMove (Duration.ZERO, origin, from.getX (), from.getY ()));
+		sequence.addAction (finger.createPointerDown (MouseButton.LEFT.asArg ()));
+		if (hold > 0) {
+			sequence.addAction (new Pause (finger, ofMillis (hold)));
+		}
+		if (to != null) {
+			sequence.addAction (finger.createPointerMove (ofMillis (move), Origin.viewport (), to.getX (), to.getY ()));
+		}
+		sequence.addAction (finger.createPointerUp (MouseButton.LEFT.asArg ()));
+		if (after > 0) {
+			sequence.addAction (new Pause (finger, ofMillis (after)));
+		}
+	}
+
+	private static long delay (final PlaybackSetting setting, final long millis, final int seconds) {
+		return setting.isAutoDelay () ? 0 : millis (millis, seconds);
+	}
+
+	private static long millis (final long millis, final int seconds) {
+		return millis >= 0 ? millis : seconds * 1000L;
+	}
+
+	private static int number (final Object value) {
+		return value == null ? 0 : ((Number) value).intValue ();
+	}
+
+	private static void performTouch (final AppiumDriver <MobileElement> driver, final Sequence... sequences) {
+		final List <TouchAction> fingers = new ArrayList <> ();
+		long lead = 0;
+		long trail = 0;
+		for (final Sequence sequence : sequences) {
+			final TouchAction action = new TouchAction (driver);
+			final long [] pauses = touch (action, sequence);
+			fingers.add (action);
+			lead = Math.max (lead, pauses [0]);
+			trail = Math.max (trail, pauses [1]);
+		}
+		pause (lead);
+		if (fingers.size () == 1) {
+			fingers.get (0)
+				.perform ();
+		}
+		else {
+			final MultiTouchAction multi = new MultiTouchAction (driver);
+			for (final TouchAction finger : fingers) {
+				multi.add (finger);
+			}
+			multi.perform ();
+		}
+		pause (trail);
+	}
+
+	private static Sequence sequence (final String name, final long before, final Point from, final long hold,
+			final Point to, final long move, final long after) {
+		final PointerInput finger = new PointerInput (Kind.TOUCH, name);
+		final Sequence sequence = new Sequence (finger, 0);
+		append (finger, sequence, before, Origin.viewport (), from, hold, to, move, after);
+		return sequence;
+	}
+
+	@SuppressWarnings ("unchecked")
+	private static long [] touch (final TouchAction action, final Sequence sequence) {
+		final List <Map <String, Object>> steps = (List <Map <String, Object>>) sequence.encode ()
+			.get ("actions");
+		boolean down = false;
+		boolean pressed = false;
+		long lead = 0;
+		long pending = 0;
+		int x = 0;
+		int y = 0;
+		int lastX = 0;
+		int lastY = 0;
+		WebElement element = null;
+		for (final Map <String, Object> step : steps) {
+			final long duration = number (step.get ("duration"));
+			switch ((String) step.get ("type")) {
+				case "pause":
+					if (down) {
+						action.waitAction (ofMillis (duration));
+					}
+					else {
+						pending += duration;
+					}
+					break;
+				case "pointerMove":
+					x = number (step.get ("x"));
+					y = number (step.get ("y"));
+					element = step.get ("origin") instanceof WebElement ? (WebElement) step.get ("origin") : null;
+					if (down) {
+						if (duration > 0) {
+							action.waitAction (ofMillis (duration));
+						}
+						action.moveTo (x - lastX, y - lastY);
+						lastX = x;
+						lastY = y;
+					}
+					break;
+				case "pointerDown":
+					if (pressed && pending > 0) {
+						action.waitAction (ofMillis (pending));
+					}
+					else if (!pressed) {
+						lead = pending;
+					}
+					pending = 0;
+					if (element != null) {
+						action.press (element);
+					}
+					else {
+						action.press (x, y);
+					}
+					lastX = x;
+					lastY = y;
+					down = true;
+					pressed = true;
+					break;
+				case "pointerUp":
+					action.release ();
+					down = false;
+					break;
+				default:
+					break;
+			}
+		}
+		return new long [] { lead, pending };
+	}
+
+	private GestureUtils () {
+		// Utility class.
+	}
+}
\ No newline at end of file
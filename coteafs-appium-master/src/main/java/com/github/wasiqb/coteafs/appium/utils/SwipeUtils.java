@@ -19,6 +19,8 @@ import static java.time.Duration.ofSeconds;
 
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.interactions.Sequence;
 
 import com.github.wasiqb.coteafs.appium.config.PlaybackSetting;
 import com.github.wasiqb.coteafs.appium.device.SwipeDirection;
@@ -42,7 +44,10 @@ public final class SwipeUtils {
 	 * @param fromElement
 	 * @param toElement
 	 * @return touch action
+	 * @deprecated use {@link #dragTo(PlaybackSetting, Rectangle, Rectangle)} with
+	 *             {@link GestureUtils#perform(AppiumDriver, Sequence...)} instead.
 	 */
+	@Deprecated
 	public static TouchAction dragTo (final PerformsTouchActions driver, final PlaybackSetting setting,
 			final MobileElement fromElement, final MobileElement toElement) {
 		final TouchAction returnAction = new TouchAction (driver);
@@ -54,6 +59,38 @@ public final class SwipeUtils {
 		return returnAction;
 	}
 
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 11:09:48 PM
+	 * @param setting
+	 * @param from
+	 * @param to
+	 * @return drag sequence
+	 */
+	public static Sequence dragTo (final PlaybackSetting setting, final Rectangle from, final Rectangle to) {
+		return GestureUtils.swipe ("finger", setting, GestureUtils.center (from), GestureUtils.center (to));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 11:09:48 PM
+	 * @param finger
+	 * @param direction
+	 * @param start
+	 * @param distancePercent
+	 * @param setting
+	 * @param screenSize
+	 * @param element
+	 *            location and size of element to swipe on, null to swipe on screen
+	 * @return swipe sequence
+	 */
+	public static Sequence swipeTo (final String finger, final SwipeDirection direction,
+			final SwipeStartPosition start, final int distancePercent, final PlaybackSetting setting,
+			final Dimension screenSize, final Rectangle element) {
+		final Point [] points = points (direction, start, distancePercent, screenSize, element);
+		return GestureUtils.swipe (finger, setting, points [0], points [1]);
+	}
+
 	/**
 	 * @author wasiq.bhamla
 	 * @since Feb 1, 2018 12:30:56 PM
@@ -64,50 +101,42 @@ public final class SwipeUtils {
 	 * @param driver
 	 * @param element
 	 * @return touch action
+	 * @deprecated use
+	 *             {@link #swipeTo(String, SwipeDirection, SwipeStartPosition, int, PlaybackSetting, Dimension, Rectangle)}
+	 *             with {@link GestureUtils#perform(AppiumDriver, Sequence...)} instead.
 	 */
+	@Deprecated
 	public static TouchAction swipeTo (final SwipeDirection direction, final SwipeStartPosition start,
 			final int distancePercent, final PlaybackSetting setting, final AppiumDriver <MobileElement> driver,
 			final MobileElement element) {
 		final Dimension screenSize = driver.manage ()
 			.window ()
 			.getSize ();
-		final double distance = distancePercent / 100.0;
-		final int w = screenSize.getWidth ();
-		final int h = screenSize.getHeight ();
-
-		final Point startPosition = getStartPoint (start, w, h, element);
-		final int startX = startPosition.getX ();
-		final int startY = startPosition.getY ();
-
-		int endX = (int) (startX * direction.getX () * distance);
-		int endY = (int) (startY * direction.getY () * distance);
-
-		final int beforeSwipe = setting.getDelayBeforeSwipe ();
-		final int afterSwipe = setting.getDelayAfterSwipe ();
+		final Rectangle area = element == null ? null : element.getRect ();
+		final Point [] points = points (direction, start, distancePercent, screenSize, area);
 		final TouchAction returnAction = new TouchAction (driver);
 		if (element == null) {
-			returnAction.press (startX, startY)
-				.waitAction (ofSeconds (beforeSwipe))
-				.moveTo (endX, endY)
-				.release ()
-				.waitAction (ofSeconds (afterSwipe));
+			returnAction.press (points [0].getX (), points [0].getY ())
+				.waitAction (ofSeconds (setting.getDelayBeforeSwipe ()))
+				.moveTo (points [1].getX () - points [0].getX (), points [1].getY () - points [0].getY ());
 		}
 		else {
-			final Dimension elementSize = element.getSize ();
-			endX = startX + (int) (elementSize.getWidth () * direction.getX () * distance);
-			endY = startY + (int) (elementSize.getHeight () * direction.getY () * distance);
-
-			returnAction.press (element, startX, startY)
-				.waitAction (ofSeconds (beforeSwipe))
-				.moveTo (element, endX, endY)
-				.release ();
+			final Point origin = area.getPoint ();
+			returnAction.press (element, points [0].getX () - origin.getX (), points [0].getY () - origin.getY ())
+				.waitAction (ofSeconds (setting.getDelayBeforeSwipe ()))
+				.moveTo (element, points [1].getX () - origin.getX (), points [1].getY () - origin.getY ());
 		}
-
+		returnAction.release ()
+			.waitAction (ofSeconds (setting.getDelayAfterSwipe ()));
 		return returnAction;
 	}
 
+	private static int clamp (final int value, final int max) {
+		return Math.max (0, Math.min (value, max - 1));
+	}
+
 	private static Point getStartPoint (final SwipeStartPosition start, final int w, final int h,
-			final MobileElement element) {
+			final Rectangle element) {
 		int x = 0;
 		int y = 0;
 		int width = w;
@@ -115,10 +144,9 @@ public final class SwipeUtils {
 		Point location = new Point (0, 0);
 
 		if (element != null) {
-			final Dimension size = element.getSize ();
-			width = size.getWidth ();
-			height = size.getHeight ();
-			location = element.getLocation ();
+			width = element.getWidth ();
+			height = element.getHeight ();
+			location = element.getPoint ();
 		}
 		switch (start) {
 			case BOTTOM:
@@ -146,6 +174,23 @@ public final class SwipeUtils {
 		return new Point (x, y);
 	}
 
+	private static Point [] points (final SwipeDirection direction, final SwipeStartPosition start,
+			final int distancePercent, final Dimension screenSize, final Rectangle element) {
+		final double distance = distancePercent / 100.0;
+		final int w = screenSize.getWidth ();
+		final int h = screenSize.getHeight ();
+
+		final Rectangle area = element == null ? new Rectangle (0, 0, h, w) : element;
+		final Point relative = getStartPoint (start, w, h, element);
+		final int startX = area.getX () + relative.getX ();
+		final int startY = area.getY () + relative.getY ();
+
+		final int endX = startX + (int) (area.getWidth () * direction.getX () * distance);
+		final int endY = startY + (int) (area.getHeight () * direction.getY () * distance);
+
+		return new Point [] { new Point (startX, startY), new Point (clamp (endX, w), clamp (endY, h)) };
+	}
+
 	private SwipeUtils () {
 		// Util class.
 	}
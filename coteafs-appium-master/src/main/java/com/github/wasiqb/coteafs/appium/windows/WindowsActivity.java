@@ -61,6 +61,6 @@ public abstract class WindowsActivity extends DeviceActivity <WindowsDriver <Mob
 	public WindowsDeviceElementActions onElement (final String name) {
 		final String msg = "Preparing to perform actions on Windows device element [%s]...";
 		log.info (String.format (msg, name));
-		return new WindowsDeviceElementActions (this.device, name, getElement (name));
+		return prepareActions (name, e -> new WindowsDeviceElementActions (this.device, name, e));
 	}
 }
\ No newline at end of file
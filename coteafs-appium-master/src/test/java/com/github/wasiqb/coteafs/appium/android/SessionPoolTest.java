@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.android;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.openqa.selenium.remote.SessionId;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.device.DeviceSessionPool;
+import com.github.wasiqb.coteafs.appium.service.AppiumServer;
+
+/**
+ * Runs against [test_pooled] device which is the only device with session pooling enabled.
+ *
+ * @author agent
+ * @since Oct 17, 2026 11:06:39 PM
+ */
+public class SessionPoolTest {
+	private AppiumServer androidServer;
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 11:06:39 PM
+	 */
+	@BeforeClass (alwaysRun = true)
+	public void setupTestSuite () {
+		this.androidServer = new AppiumServer ("android");
+		this.androidServer.start ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 11:06:39 PM
+	 */
+	@AfterClass (alwaysRun = true)
+	public void tearDownTestSuite () {
+		DeviceSessionPool.shutdown ();
+		if (this.androidServer != null) {
+			this.androidServer.stop ();
+		}
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 11:06:39 PM
+	 */
+	@Test
+	public void testSessionReused () {
+		final SessionId first = startAndStop ();
+		final SessionId second = startAndStop ();
+
+		assertThat (second).isEqualTo (first);
+	}
+
+	private SessionId startAndStop () {
+		final AndroidDevice device = new AndroidDevice (this.androidServer, "test_pooled");
+		device.start ();
+		try {
+			return device.getDriver ()
+				.getSessionId ();
+		}
+		finally {
+			device.stop ();
+		}
+	}
+}
\ No newline at end of file
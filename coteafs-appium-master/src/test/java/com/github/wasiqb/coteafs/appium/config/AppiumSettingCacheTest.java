@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.config;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.testng.annotations.Test;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 12:35:55 AM
+ */
+public class AppiumSettingCacheTest {
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:35:55 AM
+	 */
+	@Test
+	public void testDeviceSettingCopiedDeep () {
+		final DeviceSetting setting = new DeviceSetting ();
+		setting.setDeviceName ("Pixel");
+		setting.setPlatformType (PlatformType.ANDROID);
+		setting.setPlayback (new PlaybackSetting ());
+		setting.getPlayback ()
+			.setDefaultWait (5);
+		setting.setAndroid (new AndroidDeviceSetting ());
+		setting.getAndroid ()
+			.setAppPackage ("com.app");
+
+		final DeviceSetting copy = AppiumSettingCache.copy (setting);
+		assertThat (copy).isNotSameAs (setting);
+		assertThat (copy.getDeviceName ()).isEqualTo ("Pixel");
+		assertThat (copy.getPlatformType ()).isEqualTo (PlatformType.ANDROID);
+		assertThat (copy.getPlayback ()).isNotSameAs (setting.getPlayback ());
+		assertThat (copy.getAndroid ()
+			.getAppPackage ()).isEqualTo ("com.app");
+
+		copy.getPlayback ()
+			.setDefaultWait (30);
+		copy.getAndroid ()
+			.setAppPackage ("com.other");
+		assertThat (setting.getPlayback ()
+			.getDefaultWait ()).isEqualTo (5);
+		assertThat (setting.getAndroid ()
+			.getAppPackage ()).isEqualTo ("com.app");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:35:55 AM
+	 */
+	@Test
+	public void testServerSettingCopiedDeep () {
+		final ServerSetting setting = new ServerSetting ();
+		setting.setPort (4723);
+		setting.getEnvironmentVariables ()
+			.put ("ANDROID_HOME", "/sdk");
+
+		final ServerSetting copy = AppiumSettingCache.copy (setting);
+		copy.setPort (4800);
+		copy.getEnvironmentVariables ()
+			.put ("JAVA_HOME", "/jdk");
+		copy.getHttpClient ()
+			.setMaxConnections (2);
+
+		assertThat (setting.getPort ()).isEqualTo (4723);
+		assertThat (setting.getEnvironmentVariables ()).containsExactly ("ANDROID_HOME", "/sdk");
+		assertThat (copy.getEnvironmentVariables ()).containsEntry ("ANDROID_HOME", "/sdk");
+		assertThat (setting.getHttpClient ()
+			.getMaxConnections ()).isNotEqualTo (2);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.android.AndroidActivity;
+import com.github.wasiqb.coteafs.appium.android.AndroidDevice;
+import com.github.wasiqb.coteafs.appium.config.PlaybackSetting;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 1:11:33 AM
+ */
+public class ActionBatchTest {
+	private static final class KeypadActivity extends AndroidActivity {
+		private KeypadActivity (final AndroidDevice device) {
+			super (device);
+		}
+
+		@Override
+		protected DeviceElement prepare () {
+			final DeviceElement main = DeviceElement.create ("Main")
+				.using (By.id ("main"));
+			DeviceElement.create ("One")
+				.using (By.id ("one"))
+				.parent (main);
+			DeviceElement.create ("Two")
+				.using (By.id ("two"))
+				.parent (main);
+			return main;
+		}
+	}
+
+	private AndroidDevice		device;
+	private FakeAppiumServer	fake;
+	private PlaybackSetting		setting;
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:11:33 AM
+	 * @throws IOException
+	 */
+	@BeforeMethod
+	public void setup () throws IOException {
+		this.fake = new FakeAppiumServer ();
+		final FakeAppiumServer.Node main = this.fake.add ("id", "main");
+		this.fake.add (main, "id", "one")
+			.rect (0, 0, 100, 100);
+		this.fake.add (main, "id", "two")
+			.rect (100, 0, 100, 100);
+		this.device = new AndroidDevice (this.fake.appiumServer (), "unit");
+		this.setting = this.device.getSetting ()
+			.getPlayback ();
+		this.setting.setDelayBeforeTapMs (10);
+		this.setting.setDelayAfterTapMs (10);
+		this.device.start ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:11:33 AM
+	 */
+	@AfterMethod
+	public void teardown () {
+		this.device.stop ();
+		this.fake.stop ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:11:33 AM
+	 */
+	@Test
+	public void testTapsMergedWithTapDelays () {
+		this.setting.setAutoDelay (false);
+		final KeypadActivity activity = new KeypadActivity (this.device);
+		this.fake.reset ();
+
+		activity.batch (b -> b.tap ("One")
+			.tap ("Two"));
+
+		assertThat (this.fake.count ("POST /touch/perform")).isEqualTo (1);
+		assertThat (this.fake.count ("GET /source")).isEqualTo (0);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:11:33 AM
+	 */
+	@Test
+	public void testTapsSentAloneWithAutoDelay () {
+		this.setting.setAutoDelay (true);
+		final KeypadActivity activity = new KeypadActivity (this.device);
+		this.fake.reset ();
+
+		activity.batch (b -> b.tap ("One")
+			.tap ("Two"));
+
+		assertThat (this.fake.count ("POST /touch/perform")).isEqualTo (2);
+		assertThat (this.fake.count ("GET /source")).isAtLeast (2);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.android.AndroidActivity;
+import com.github.wasiqb.coteafs.appium.android.AndroidDevice;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 1:14:59 AM
+ */
+public class ActivityVerifyTest {
+	private static final class LoginActivity extends AndroidActivity {
+		private LoginActivity (final AndroidDevice device) {
+			super (device);
+		}
+
+		@Override
+		protected DeviceElement prepare () {
+			final DeviceElement main = DeviceElement.create ("Main")
+				.using (By.id ("main"));
+			DeviceElement.create ("Login")
+				.using (By.id ("login"))
+				.parent (main);
+			DeviceElement.create ("Title")
+				.using (By.id ("title"))
+				.parent (main);
+			return main;
+		}
+	}
+
+	private static final String SOURCE = "<hierarchy>"
+			+ "<android.widget.FrameLayout resource-id=\"com.unit.app:id/main\" bounds=\"[0,0][100,200]\">"
+			+ "<android.widget.TextView resource-id=\"com.unit.app:id/title\" text=\"Welcome\""
+			+ " bounds=\"[0,0][100,100]\"/>"
+			+ "<android.widget.Button resource-id=\"com.unit.app:id/login\" text=\"Login\" enabled=\"false\""
+			+ " bounds=\"[0,100][100,200]\"/>"
+			+ "</android.widget.FrameLayout></hierarchy>";
+
+	private LoginActivity		activity;
+	private AndroidDevice		device;
+	private FakeAppiumServer	fake;
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:14:59 AM
+	 * @throws IOException
+	 */
+	@BeforeMethod
+	public void setup () throws IOException {
+		this.fake = new FakeAppiumServer ();
+		this.fake.source (SOURCE);
+		this.device = new AndroidDevice (this.fake.appiumServer (), "unit");
+		this.device.start ();
+		this.activity = new LoginActivity (this.device);
+		this.fake.reset ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:14:59 AM
+	 */
+	@AfterMethod
+	public void teardown () {
+		this.device.stop ();
+		this.fake.stop ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:14:59 AM
+	 */
+	@Test
+	public void testAllMismatchesReported () {
+		try {
+			this.activity.verifyAll (v -> v.shouldBeDisplayed ("Title")
+				.textShouldBeEqualTo ("Title", "Hello")
+				.shouldBeEnabled ("Login"));
+			throw new IllegalStateException ("Mismatches were not reported.");
+		}
+		catch (final AssertionError e) {
+			assertThat (e.getMessage ()).contains ("[2] of [3] expectations failed");
+			assertThat (e.getMessage ()).contains ("Element [Title] expected to have text [Hello] but was [Welcome]");
+			assertThat (e.getMessage ()).contains ("Element [Login] expected to be enabled but was disabled");
+		}
+		assertThat (this.fake.count ("GET /source")).isEqualTo (1);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:14:59 AM
+	 */
+	@Test
+	public void testVerifiedOnSingleSnapshot () {
+		this.activity.verifyAll (v -> v.shouldBeDisplayed ("Main")
+			.textShouldBeEqualTo ("Title", "Welcome")
+			.textShouldBeEqualTo ("Login", "Login")
+			.shouldBeDisabled ("Login"));
+
+		assertThat (this.fake.commands ()).containsExactly ("GET /source");
+	}
+}
\ No newline at end of file
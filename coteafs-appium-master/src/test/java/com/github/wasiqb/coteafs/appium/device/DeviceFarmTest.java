@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.error.DeviceDriverNotStartingError;
+import com.github.wasiqb.coteafs.appium.error.DeviceLeaseInterruptedError;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:36:07 PM
+ */
+public class DeviceFarmTest {
+	private static void awaitParked (final Thread thread) {
+		while (thread.isAlive () && thread.getState () != Thread.State.TIMED_WAITING) {
+			Thread.yield ();
+		}
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:07 PM
+	 */
+	@Test
+	public void testAffinityReused () {
+		final DeviceFarm farm = DeviceFarm.create (Arrays.asList ("a", "b"), 0);
+		final DeviceLease first = farm.lease ("login", 1);
+		first.close ();
+		final DeviceLease second = farm.lease ("login", 1);
+		final DeviceLease other = farm.lease ("search", 1);
+
+		assertThat (second.device ()).isEqualTo (first.device ());
+		assertThat (other.device ()).isNotEqualTo (second.device ());
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:07 PM
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testDeadOwnerReclaimed () throws InterruptedException {
+		final DeviceFarm farm = DeviceFarm.create (Collections.singletonList ("a"), 0);
+		final AtomicReference <DeviceLease> crashed = new AtomicReference <> ();
+		final Thread worker = new Thread (() -> crashed.set (farm.lease ("crashed", 1)));
+		worker.start ();
+		worker.join ();
+
+		assertThat (crashed.get ()).isNotNull ();
+		assertThat (farm.lease ("next", 1)
+			.device ()).isEqualTo ("a");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:42:16 AM
+	 */
+	@Test
+	public void testInterruptedLeaseFailsDistinctly () {
+		final DeviceFarm farm = DeviceFarm.create (Collections.singletonList ("a"), 0);
+		farm.lease ("first", 1);
+		Thread.currentThread ()
+			.interrupt ();
+		try {
+			farm.lease ("second", 5);
+			throw new AssertionError ("Interrupted lease did not fail.");
+		}
+		catch (final DeviceLeaseInterruptedError e) {
+			assertThat (e.getCause ()).isInstanceOf (InterruptedException.class);
+		}
+		assertThat (Thread.interrupted ()).isTrue ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:07 PM
+	 */
+	@Test (expectedExceptions = DeviceDriverNotStartingError.class)
+	public void testLeaseTimesOut () {
+		final DeviceFarm farm = DeviceFarm.create (Collections.singletonList ("a"), 0);
+		farm.lease ("first", 1);
+		farm.lease ("second", 0);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:07 PM
+	 */
+	@Test (expectedExceptions = DeviceDriverNotStartingError.class)
+	public void testReclaimedLeaseCloseIgnored () {
+		final DeviceFarm farm = DeviceFarm.create (Collections.singletonList ("a"), 0);
+		final DeviceLease stale = farm.lease ("first", 1);
+
+		assertThat (farm.reclaim (Thread.currentThread ())).isEqualTo (1);
+		assertThat (farm.reclaim (Thread.currentThread ())).isEqualTo (0);
+
+		farm.lease ("second", 1);
+		stale.close ();
+		farm.lease ("third", 0);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:42:16 AM
+	 */
+	@Test
+	public void testReclaimedWithTest () {
+		final DeviceFarm farm = DeviceFarm.create (Arrays.asList ("a", "b"), 0);
+		final ITestResult test = Reporter.getCurrentTestResult ();
+		farm.lease ("first", 1);
+
+		assertThat (DeviceFarm.reclaimAll (test)).isEqualTo (1);
+
+		farm.lease ("second", 1);
+		farm.lease ("third", 1);
+
+		assertThat (farm.reclaim (test.getTestContext ())).isEqualTo (2);
+		assertThat (farm.reclaim (test)).isEqualTo (0);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:07 PM
+	 */
+	@Test
+	public void testStuckLeaseReclaimed () {
+		final DeviceFarm farm = DeviceFarm.create (Collections.singletonList ("a"), 1);
+		farm.lease ("stuck", 1);
+
+		assertThat (farm.lease ("next", 2)
+			.device ()).isEqualTo ("a");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 11:05:21 PM
+	 * @throws InterruptedException
+	 */
+	@Test (timeOut = 10000)
+	public void testWaiterOwnsServedLease () throws InterruptedException {
+		final DeviceFarm farm = DeviceFarm.create (Collections.singletonList ("a"), 0);
+		final DeviceLease lease = farm.lease ("first", 1);
+		final CountDownLatch served = new CountDownLatch (1);
+		final CountDownLatch done = new CountDownLatch (1);
+		final Thread waiter = new Thread (() -> {
+			farm.lease ("second", 5);
+			served.countDown ();
+			try {
+				done.await ();
+			}
+			catch (final InterruptedException e) {
+				Thread.currentThread ()
+					.interrupt ();
+			}
+		});
+		waiter.start ();
+		awaitParked (waiter);
+		lease.close ();
+		served.await ();
+
+		assertThat (farm.reclaim (Thread.currentThread ())).isEqualTo (0);
+		assertThat (farm.reclaim (waiter)).isEqualTo (1);
+
+		done.countDown ();
+		waiter.join ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:07 PM
+	 * @throws InterruptedException
+	 */
+	@Test (timeOut = 10000)
+	public void testWaiterServedOnRelease () throws InterruptedException {
+		final DeviceFarm farm = DeviceFarm.create (Collections.singletonList ("a"), 0);
+		final DeviceLease lease = farm.lease ("first", 1);
+		final CountDownLatch started = new CountDownLatch (1);
+		final AtomicReference <String> served = new AtomicReference <> ();
+		final Thread waiter = new Thread (() -> {
+			started.countDown ();
+			served.set (farm.lease ("second", 5)
+				.device ());
+		});
+		waiter.start ();
+		started.await ();
+		awaitParked (waiter);
+
+		assertThat (waiter.getState ()).isEqualTo (Thread.State.TIMED_WAITING);
+
+		lease.close ();
+		waiter.join ();
+
+		assertThat (served.get ()).isEqualTo ("a");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.android.AndroidDevice;
+import com.github.wasiqb.coteafs.appium.error.DeviceDriverNotStartingError;
+import com.github.wasiqb.coteafs.appium.service.AppiumServer;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 12:54:37 AM
+ */
+public class DeviceStarterTest {
+	private FakeAppiumServer	broken;
+	private FakeAppiumServer	fake;
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:54:37 AM
+	 * @throws IOException
+	 */
+	@BeforeMethod
+	public void setup () throws IOException {
+		this.fake = new FakeAppiumServer ();
+		this.broken = new FakeAppiumServer ();
+		this.broken.failSessions (true);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:54:37 AM
+	 */
+	@AfterMethod
+	public void teardown () {
+		this.fake.stop ();
+		this.broken.stop ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:54:37 AM
+	 */
+	@Test
+	public void testDevicesStartConcurrently () {
+		this.fake.sessionDelay (500);
+		final AppiumServer server = this.fake.appiumServer ();
+		final AndroidDevice [] devices = { new AndroidDevice (server, "unit"), new AndroidDevice (server, "unit"),
+				new AndroidDevice (server, "unit") };
+		DeviceStarter.startAll (3, devices);
+
+		assertThat (this.fake.sessions ()).isEqualTo (3);
+		assertThat (this.fake.sessionsStartedTogether ()).isEqualTo (3);
+		for (final AndroidDevice device : devices) {
+			assertThat (device.getDriver ()).isNotNull ();
+			device.stop ();
+		}
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:54:37 AM
+	 * @throws InterruptedException
+	 * @throws ExecutionException
+	 * @throws TimeoutException
+	 */
+	@Test
+	public void testStartAsyncCompletesWithDriver () throws InterruptedException, ExecutionException,
+			TimeoutException {
+		final AndroidDevice device = new AndroidDevice (this.fake.appiumServer (), "unit");
+		device.startAsync ()
+			.get (10, TimeUnit.SECONDS);
+
+		assertThat (device.getDriver ()).isNotNull ();
+		device.stop ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:54:37 AM
+	 */
+	@Test
+	public void testStartedDevicesStoppedOnFailure () {
+		final AndroidDevice started = new AndroidDevice (this.fake.appiumServer (), "unit");
+		final AndroidDevice failing = new AndroidDevice (this.broken.appiumServer (), "unit");
+		try {
+			DeviceStarter.startAll (2, started, failing);
+			throw new AssertionError ("Failed device start was not reported.");
+		}
+		catch (final DeviceDriverNotStartingError e) {
+			assertThat (e.getMessage ()).contains ("[1] of [2]");
+		}
+
+		assertThat (this.fake.sessions ()).isEqualTo (1);
+		assertThat (this.fake.count ("DELETE /")).isEqualTo (1);
+		assertThat (started.getDriver ()).isNull ();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.config.DeviceSetting;
+import com.github.wasiqb.coteafs.appium.config.PlatformType;
+import com.github.wasiqb.coteafs.appium.config.PlaybackSetting;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:44:32 PM
+ */
+public class DeviceWaitTest {
+	private static final WebDriver driver;
+
+	private static DeviceSetting device (final String name) {
+		final PlaybackSetting playback = new PlaybackSetting ();
+		playback.setWaitForElementUntil (1);
+		playback.setPollingInterval (10);
+		playback.setMaxPollingInterval (40);
+		playback.setPollingBackoff (2);
+		playback.setPollingJitter (0);
+		final DeviceSetting setting = new DeviceSetting ();
+		setting.setPlatformType (PlatformType.ANDROID);
+		setting.setDeviceName (name);
+		setting.setPlayback (playback);
+		return setting;
+	}
+
+	static {
+		driver = (WebDriver) Proxy.newProxyInstance (WebDriver.class.getClassLoader (),
+				new Class <?> [] { WebDriver.class },
+				(proxy, method, args) -> "toString".equals (method.getName ()) ? "driver" : null);
+	}
+
+	private AtomicInteger	calls;
+	private DeviceWait		wait;
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 */
+	@BeforeMethod
+	public void setupWait () {
+		this.wait = new DeviceWait (driver, device ("Pixel"));
+		this.calls = new AtomicInteger ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 */
+	@Test
+	public void testBackoffLimitsPolls () {
+		try {
+			this.wait.until (d -> false);
+		}
+		catch (final TimeoutException e) {
+			assertThat (this.wait.getLastPolls ()).isAtLeast (10L);
+			assertThat (this.wait.getLastPolls ()).isAtMost (30L);
+			return;
+		}
+		throw new AssertionError ("Wait should have timed out.");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 */
+	@Test
+	public void testFalseIsRetried () {
+		final Boolean result = this.wait.until (d -> this.calls.incrementAndGet () == 3);
+
+		assertThat (result).isTrue ();
+		assertThat (this.wait.getLastPolls ()).isEqualTo (3L);
+		assertThat (this.wait.getWaits ()).isEqualTo (1L);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:37:56 AM
+	 */
+	@Test
+	public void testIgnoredErrorIsRetried () {
+		this.wait.ignoring (StaleElementReferenceException.class);
+		final String result = this.wait.until (d -> {
+			if (this.calls.incrementAndGet () < 3) {
+				throw new StaleElementReferenceException ("Stale.");
+			}
+			return "found";
+		});
+
+		assertThat (result).isEqualTo ("found");
+		assertThat (this.wait.getLastPolls ()).isEqualTo (3L);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:37:56 AM
+	 */
+	@Test
+	public void testInvalidSelectorIsNotRetried () {
+		try {
+			this.wait.until (d -> {
+				this.calls.incrementAndGet ();
+				throw new InvalidSelectorException ("Invalid.");
+			});
+		}
+		catch (final InvalidSelectorException e) {
+			assertThat (this.calls.get ()).isEqualTo (1);
+			return;
+		}
+		throw new AssertionError ("Invalid selector error should not be retried.");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 */
+	@Test
+	public void testLearnsTimeByKey () {
+		final String key = "DeviceWaitTest.testLearnsTimeByKey";
+		assertThat (this.wait.learnedTime (key)).isEqualTo (-1L);
+
+		this.wait.until (key, d -> this.calls.incrementAndGet () > 2 ? "done" : null);
+
+		assertThat (this.wait.learnedTime (key)).isAtLeast (0L);
+		assertThat (new DeviceWait (driver, device ("Nexus")).learnedTime (key)).isEqualTo (-1L);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 */
+	@Test
+	public void testNotFoundIsRetried () {
+		final String result = this.wait.until (d -> {
+			if (this.calls.incrementAndGet () < 3) {
+				throw new NoSuchElementException ("Not yet.");
+			}
+			return "found";
+		});
+
+		assertThat (result).isEqualTo ("found");
+		assertThat (this.wait.getLastPolls ()).isEqualTo (3L);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 11:05:11 PM
+	 */
+	@Test
+	public void testStaleIsNotRetried () {
+		try {
+			this.wait.until (d -> {
+				this.calls.incrementAndGet ();
+				throw new StaleElementReferenceException ("Stale.");
+			});
+		}
+		catch (final StaleElementReferenceException e) {
+			assertThat (this.calls.get ()).isEqualTo (1);
+			return;
+		}
+		throw new AssertionError ("Stale element error should not be retried.");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:37:56 AM
+	 */
+	@Test
+	public void testTimeoutAndMessageHonoured () {
+		this.wait.withTimeout (100, TimeUnit.MILLISECONDS)
+			.withMessage ("Login not shown");
+		final long start = System.currentTimeMillis ();
+		try {
+			this.wait.until (d -> false);
+		}
+		catch (final TimeoutException e) {
+			assertThat (System.currentTimeMillis () - start).isLessThan (1000L);
+			assertThat (e.getMessage ()).startsWith ("Login not shown");
+			return;
+		}
+		throw new AssertionError ("Wait should have timed out.");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:44:32 PM
+	 */
+	@Test
+	public void testTimesOutWithLastError () {
+		try {
+			this.wait.until (d -> {
+				throw new NoSuchElementException ("Never.");
+			});
+		}
+		catch (final TimeoutException e) {
+			assertThat (e.getCause ()).isInstanceOf (NoSuchElementException.class);
+			return;
+		}
+		throw new AssertionError ("Wait should have timed out.");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.android.AndroidActivity;
+import com.github.wasiqb.coteafs.appium.android.AndroidDevice;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 12:58:23 AM
+ */
+public class ElementCacheTest {
+	private static final class CachedActivity extends AndroidActivity {
+		private CachedActivity (final AndroidDevice device) {
+			super (device);
+		}
+
+		@Override
+		protected DeviceElement prepare () {
+			final DeviceElement main = DeviceElement.create ("Main")
+				.using (By.id ("main"));
+			DeviceElement.create ("Login")
+				.using (By.id ("login"))
+				.parent (main);
+			return main;
+		}
+	}
+
+	private CachedActivity			activity;
+	private AndroidDevice			device;
+	private FakeAppiumServer		fake;
+	private FakeAppiumServer.Node	login;
+	private FakeAppiumServer.Node	main;
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:58:23 AM
+	 * @throws IOException
+	 */
+	@BeforeMethod
+	public void setup () throws IOException {
+		this.fake = new FakeAppiumServer ();
+		this.main = this.fake.add ("id", "main");
+		this.login = this.fake.add (this.main, "id", "login")
+			.text ("Login");
+		this.device = new AndroidDevice (this.fake.appiumServer (), "unit");
+		this.device.getSetting ()
+			.getPlayback ()
+			.setCacheElements (true);
+		this.device.start ();
+		this.activity = new CachedActivity (this.device);
+		this.fake.reset ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:58:23 AM
+	 */
+	@AfterMethod
+	public void teardown () {
+		this.device.stop ();
+		this.fake.stop ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:58:23 AM
+	 */
+	@Test
+	public void testCachedElementReused () {
+		this.activity.getElement ("Login");
+		this.activity.getElement ("Login");
+
+		assertThat (this.fake.count ("POST /element/" + this.main.id () + "/elements")).isEqualTo (1);
+		assertThat (this.activity.getCacheHits ()).isEqualTo (1L);
+		assertThat (this.activity.getCacheMisses ()).isEqualTo (1L);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:58:23 AM
+	 */
+	@Test
+	public void testScreenChangeInvalidatesCache () {
+		this.activity.getElement ("Login");
+		this.device.screenChanged ();
+		this.activity.getElement ("Login");
+
+		assertThat (this.fake.count ("POST /element/" + this.main.id () + "/elements")).isEqualTo (2);
+		assertThat (this.activity.getCacheHits ()).isEqualTo (0L);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:58:23 AM
+	 */
+	@Test
+	public void testStaleElementFoundAgain () {
+		this.activity.getElement ("Login");
+		this.fake.remove (this.login);
+		this.fake.add (this.main, "id", "login")
+			.text ("Sign in");
+
+		assertThat (this.activity.onElement ("Login")
+			.text ()).isEqualTo ("Sign in");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.android.AndroidActivity;
+import com.github.wasiqb.coteafs.appium.android.AndroidDevice;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 1:02:19 AM
+ */
+public class ElementLookupTest {
+	private static final class ListActivity extends AndroidActivity {
+		private ListActivity (final AndroidDevice device) {
+			super (device);
+		}
+
+		@Override
+		protected DeviceElement prepare () {
+			final DeviceElement main = DeviceElement.create ("Main")
+				.using (By.id ("main"));
+			DeviceElement.create ("Item")
+				.using (By.id ("item"))
+				.parent (main);
+			DeviceElement.create ("Label")
+				.using (By.id ("label"))
+				.waitStrategy (WaitStrategy.PRESENT)
+				.parent (main);
+			return main;
+		}
+	}
+
+	private ListActivity			activity;
+	private AndroidDevice			device;
+	private FakeAppiumServer		fake;
+	private FakeAppiumServer.Node	main;
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:02:19 AM
+	 * @throws IOException
+	 */
+	@BeforeMethod
+	public void setup () throws IOException {
+		this.fake = new FakeAppiumServer ();
+		this.main = this.fake.add ("id", "main");
+		this.device = new AndroidDevice (this.fake.appiumServer (), "unit");
+		this.device.getSetting ()
+			.getPlayback ()
+			.setCacheElements (false);
+		this.device.getSetting ()
+			.getPlayback ()
+			.setTrustElementState (true);
+		this.device.start ();
+		this.activity = new ListActivity (this.device);
+		this.fake.reset ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:02:19 AM
+	 */
+	@AfterMethod
+	public void teardown () {
+		this.device.stop ();
+		this.fake.stop ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:02:19 AM
+	 */
+	@Test
+	public void testOnlyIndexedElementChecked () {
+		final FakeAppiumServer.Node first = this.fake.add (this.main, "id", "item");
+		final FakeAppiumServer.Node second = this.fake.add (this.main, "id", "item");
+		final FakeAppiumServer.Node third = this.fake.add (this.main, "id", "item")
+			.text ("Third");
+
+		assertThat (this.activity.onElement ("Item", 2)
+			.text ()).isEqualTo ("Third");
+		assertThat (this.fake.count ("POST /elements")).isEqualTo (1);
+		assertThat (this.fake.count ("POST /element/" + this.main.id () + "/elements")).isEqualTo (1);
+		assertThat (this.fake.count ("GET /element/" + first.id () + "/displayed")).isEqualTo (0);
+		assertThat (this.fake.count ("GET /element/" + second.id () + "/displayed")).isEqualTo (0);
+		assertThat (this.fake.count ("GET /element/" + third.id () + "/displayed")).isEqualTo (1);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:02:19 AM
+	 */
+	@Test
+	public void testPresentElementNotChecked () {
+		final FakeAppiumServer.Node label = this.fake.add (this.main, "id", "label")
+			.displayed (false);
+
+		this.activity.getElement ("Label");
+
+		assertThat (this.fake.count ("POST /element/" + this.main.id () + "/elements")).isEqualTo (1);
+		assertThat (this.fake.count ("GET /element/" + label.id () + "/displayed")).isEqualTo (0);
+	}
+}
\ No newline at end of file
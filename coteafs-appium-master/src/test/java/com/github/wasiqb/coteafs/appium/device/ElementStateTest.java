@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.Rectangle;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.config.PlaybackSetting;
+import com.github.wasiqb.coteafs.appium.utils.GestureUtils;
+
+import io.appium.java_client.MobileElement;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 12:28:33 AM
+ */
+public class ElementStateTest {
+	private static final class CountingElement extends MobileElement {
+		private final AtomicInteger calls = new AtomicInteger ();
+
+		@Override
+		public Rectangle getRect () {
+			this.calls.incrementAndGet ();
+			return new Rectangle (10, 20, 40, 30);
+		}
+
+		@Override
+		public boolean isDisplayed () {
+			this.calls.incrementAndGet ();
+			return true;
+		}
+
+		@Override
+		public boolean isEnabled () {
+			this.calls.incrementAndGet ();
+			return true;
+		}
+
+		@Override
+		public boolean isSelected () {
+			this.calls.incrementAndGet ();
+			return false;
+		}
+	}
+
+	private CountingElement	element;
+	private ElementState	state;
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:28:33 AM
+	 */
+	@BeforeMethod
+	public void setupState () {
+		this.element = new CountingElement ();
+		this.state = new ElementState (null, this.element, false);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:28:33 AM
+	 */
+	@Test
+	public void testInvalidateFetchesAgain () {
+		this.state.displayed ();
+		this.state.invalidate ();
+		this.state.displayed ();
+
+		assertThat (this.element.calls.get ()).isEqualTo (2);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:28:33 AM
+	 */
+	@Test
+	public void testNativeStateFetchedOnce () {
+		for (int i = 0; i < 2; i++) {
+			assertThat (this.state.displayed ()).isTrue ();
+			assertThat (this.state.enabled ()).isTrue ();
+			assertThat (this.state.selected ()).isFalse ();
+			assertThat (this.state.rect ()).isEqualTo (new Rectangle (10, 20, 40, 30));
+		}
+
+		assertThat (this.element.calls.get ()).isEqualTo (4);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:28:33 AM
+	 */
+	@SuppressWarnings ("unchecked")
+	@Test
+	public void testTapAimsAtElement () {
+		final PlaybackSetting setting = new PlaybackSetting ();
+		setting.setDelayBeforeTapMs (0);
+		setting.setDelayAfterTapMs (0);
+		final List <Map <String, Object>> actions = (List <Map <String, Object>>) GestureUtils
+			.tap ("finger", setting, this.state.element ())
+			.encode ()
+			.get ("actions");
+
+		assertThat (actions).hasSize (3);
+		assertThat (actions.get (0)
+			.get ("origin")).isSameAs (this.element);
+		assertThat (actions.get (0)
+			.get ("x")).isEqualTo (0);
+		assertThat (this.element.calls.get ()).isEqualTo (0);
+	}
+}
\ No newline at end of file
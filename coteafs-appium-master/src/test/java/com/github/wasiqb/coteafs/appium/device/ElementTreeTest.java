@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.config.PlatformType;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:45:32 PM
+ */
+public class ElementTreeTest {
+	private static final class ChainActivity {
+		// Key for element tree.
+	}
+
+	private static final class FrozenActivity {
+		// Key for element tree.
+	}
+
+	private static final class NestedActivity {
+		// Key for element tree.
+	}
+
+	private static final class OuterActivity {
+		// Key for element tree.
+	}
+
+	private static final class SharedActivity {
+		// Key for element tree.
+	}
+
+	private static DeviceElement prepare (final AtomicInteger builds) {
+		builds.incrementAndGet ();
+		final DeviceElement root = DeviceElement.create ("Root")
+			.using (By.id ("content"));
+		final DeviceElement list = DeviceElement.create ("List")
+			.using (By.id ("list"))
+			.parent (root);
+		DeviceElement.create ("Item")
+			.using (By.xpath ("//android.widget.TextView[@text='Item']"))
+			.parent (list);
+		DeviceElement.create ("Ok")
+			.using (By.id ("ok"))
+			.parent (root);
+		return root;
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:45:32 PM
+	 */
+	@Test
+	public void testAncestors () {
+		final ElementTree tree = ElementTree.of (ChainActivity.class, PlatformType.ANDROID, false,
+				() -> prepare (new AtomicInteger ()));
+		final DeviceElement root = tree.elements ()
+			.get ("Root");
+		final DeviceElement list = tree.elements ()
+			.get ("List");
+
+		assertThat (tree.elements ()
+			.keySet ()).containsExactly ("Root", "List", "Item", "Ok");
+		assertThat (tree.ancestors (root)).isEmpty ();
+		assertThat (tree.ancestors (list)).containsExactly (root);
+		assertThat (tree.ancestors (tree.elements ()
+			.get ("Item"))).containsExactly (root, list)
+			.inOrder ();
+		assertThat (tree.ancestors (tree.elements ()
+			.get ("Ok"))).containsExactly (root);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:25:42 AM
+	 */
+	@Test
+	public void testElementsFrozen () {
+		final ElementTree tree = ElementTree.of (FrozenActivity.class, PlatformType.ANDROID, false,
+				() -> prepare (new AtomicInteger ()));
+		final DeviceElement root = tree.elements ()
+			.get ("Root");
+
+		assertThat (root.childs ()).hasSize (2);
+		try {
+			root.index (1);
+			throw new AssertionError ("Shared element should not be changed.");
+		}
+		catch (final UnsupportedOperationException e) {
+			assertThat (root.index ()).isEqualTo (0);
+		}
+		try {
+			root.childs ()
+				.clear ();
+			throw new AssertionError ("Children of shared element should not be changed.");
+		}
+		catch (final UnsupportedOperationException e) {
+			assertThat (root.childs ()).hasSize (2);
+		}
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:25:42 AM
+	 */
+	@Test
+	public void testNestedBuild () {
+		final AtomicInteger builds = new AtomicInteger ();
+		final ElementTree outer = ElementTree.of (OuterActivity.class, PlatformType.ANDROID, false, () -> {
+			ElementTree.of (NestedActivity.class, PlatformType.ANDROID, false, () -> prepare (builds));
+			return prepare (builds);
+		});
+
+		assertThat (outer.elements ()).hasSize (4);
+		assertThat (builds.get ()).isEqualTo (2);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:45:32 PM
+	 */
+	@Test
+	public void testSharedPerKey () {
+		final AtomicInteger builds = new AtomicInteger ();
+		final ElementTree first = ElementTree.of (SharedActivity.class, PlatformType.ANDROID, false,
+				() -> prepare (builds));
+		final ElementTree second = ElementTree.of (SharedActivity.class, PlatformType.ANDROID, false,
+				() -> prepare (builds));
+		final ElementTree optimized = ElementTree.of (SharedActivity.class, PlatformType.ANDROID, true,
+				() -> prepare (builds));
+		final ElementTree ios = ElementTree.of (SharedActivity.class, PlatformType.IOS, false,
+				() -> prepare (builds));
+
+		assertThat (second).isSameAs (first);
+		assertThat (optimized).isNotSameAs (first);
+		assertThat (ios).isNotSameAs (first);
+		assertThat (builds.get ()).isEqualTo (3);
+	}
+}
\ No newline at end of file
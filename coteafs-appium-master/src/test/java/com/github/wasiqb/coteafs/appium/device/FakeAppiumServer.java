@@ -0,0 +1,394 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.Rectangle;
+
+import com.github.wasiqb.coteafs.appium.service.AppiumServer;
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Appium server double speaking the JSON wire protocol over HTTP, so the real driver can be used in unit tests.
+ * It keeps a tree of elements found by locator strategy and value, and records every session command it
+ * receives.
+ *
+ * @author agent
+ * @since Oct 18, 2026 12:51:11 AM
+ */
+final class FakeAppiumServer {
+	static final class Node {
+		private boolean			displayed;
+		private boolean			enabled;
+		private final String	id;
+		private final Node		parent;
+		private Rectangle		rect;
+		private String			text;
+		private final String	using;
+		private final String	value;
+
+		private Node (final String id, final Node parent, final String using, final String value) {
+			this.id = id;
+			this.parent = parent;
+			this.using = using;
+			this.value = value;
+			this.displayed = true;
+			this.enabled = true;
+			this.rect = new Rectangle (0, 0, 10, 10);
+			this.text = "";
+		}
+
+		Node displayed (final boolean isDisplayed) {
+			this.displayed = isDisplayed;
+			return this;
+		}
+
+		String id () {
+			return this.id;
+		}
+
+		Node enabled (final boolean isEnabled) {
+			this.enabled = isEnabled;
+			return this;
+		}
+
+		Node rect (final int x, final int y, final int width, final int height) {
+			this.rect = new Rectangle (x, y, height, width);
+			return this;
+		}
+
+		Node text (final String nodeText) {
+			this.text = nodeText;
+			return this;
+		}
+
+		private boolean under (final Node ancestor) {
+			for (Node current = this.parent; current != null; current = current.parent) {
+				if (current == ancestor) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static final Pattern	COMMAND	= Pattern.compile ("/wd/hub/session/[^/]+(/.*)?");
+	private static final Pattern	ELEMENT	= Pattern.compile ("/element/([^/]+)(/.*)?");
+	private static final Gson		GSON	= new Gson ();
+
+	private static Map <String, Object> element (final Node node) {
+		return map ("ELEMENT", node.id);
+	}
+
+	private static Map <String, Object> map (final String key, final Object value) {
+		final Map <String, Object> map = new LinkedHashMap <> ();
+		map.put (key, value);
+		return map;
+	}
+
+	private final List <AppiumServer>	appiumServers;
+	private final List <String>			commands;
+	private final ExecutorService		executor;
+	private volatile boolean			failSessions;
+	private final AtomicInteger			ids;
+	private final List <Node>			nodes;
+	private final HttpServer			server;
+	private volatile long				sessionDelay;
+	private final AtomicInteger			sessions;
+	private final List <String>			sources;
+	private final AtomicInteger			starting;
+	private final AtomicInteger			startingMax;
+
+	FakeAppiumServer () throws IOException {
+		this.appiumServers = Collections.synchronizedList (new ArrayList <> ());
+		this.commands = Collections.synchronizedList (new ArrayList <> ());
+		this.executor = Executors.newCachedThreadPool ();
+		this.ids = new AtomicInteger ();
+		this.nodes = Collections.synchronizedList (new ArrayList <> ());
+		this.sessions = new AtomicInteger ();
+		this.starting = new AtomicInteger ();
+		this.startingMax = new AtomicInteger ();
+		this.sources = new ArrayList <> ();
+		this.sources.add ("<hierarchy/>");
+		this.server = HttpServer.create (new InetSocketAddress ("127.0.0.1", 0), 0);
+		this.server.setExecutor (this.executor);
+		this.server.createContext ("/wd/hub", this::handle);
+		this.server.start ();
+	}
+
+	Node add (final Node parent, final String using, final String value) {
+		final Node node = new Node (String.valueOf (this.ids.incrementAndGet ()), parent, using, value);
+		this.nodes.add (node);
+		return node;
+	}
+
+	Node add (final String using, final String value) {
+		return add (null, using, value);
+	}
+
+	AppiumServer appiumServer () {
+		final AppiumServer appium = new AppiumServer ("unit", this.server.getAddress ()
+			.getPort ());
+		appium.start ();
+		this.appiumServers.add (appium);
+		return appium;
+	}
+
+	List <String> commands () {
+		synchronized (this.commands) {
+			return new ArrayList <> (this.commands);
+		}
+	}
+
+	int count (final String command) {
+		int count = 0;
+		for (final String each : commands ()) {
+			if (each.equals (command)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	void failSessions (final boolean fail) {
+		this.failSessions = fail;
+	}
+
+	void remove (final Node node) {
+		this.nodes.remove (node);
+	}
+
+	void reset () {
+		this.commands.clear ();
+	}
+
+	void sessionDelay (final long millis) {
+		this.sessionDelay = millis;
+	}
+
+	int sessions () {
+		return this.sessions.get ();
+	}
+
+	int sessionsStartedTogether () {
+		return this.startingMax.get ();
+	}
+
+	void source (final String... pages) {
+		synchronized (this.sources) {
+			this.sources.clear ();
+			Collections.addAll (this.sources, pages);
+		}
+	}
+
+	void stop () {
+		synchronized (this.appiumServers) {
+			for (final AppiumServer appium : this.appiumServers) {
+				appium.stop ();
+			}
+		}
+		this.server.stop (0);
+		this.executor.shutdownNow ();
+	}
+
+	private Object command (final String method, final String path, final Map <?, ?> body) {
+		if ("GET".equals (method) && "/".equals (path)) {
+			return capabilities ();
+		}
+		if ("GET".equals (method) && "/source".equals (path)) {
+			return source ();
+		}
+		if ("POST".equals (method) && "/elements".equals (path)) {
+			return find (null, body);
+		}
+		if ("GET".equals (method) && "/window/current/size".equals (path)) {
+			final Map <String, Object> size = new LinkedHashMap <> ();
+			size.put ("width", 1080);
+			size.put ("height", 1920);
+			return size;
+		}
+		final Matcher matcher = ELEMENT.matcher (path);
+		if (!matcher.matches ()) {
+			return null;
+		}
+		final Node node = node (matcher.group (1));
+		if (node == null) {
+			return null;
+		}
+		final String action = matcher.group (2) == null ? "" : matcher.group (2);
+		switch (action) {
+			case "/elements":
+				return find (node, body);
+			case "/displayed":
+				return node.displayed;
+			case "/enabled":
+				return node.enabled;
+			case "/selected":
+				return false;
+			case "/text":
+				return node.text;
+			case "/rect":
+				final Map <String, Object> rect = new LinkedHashMap <> ();
+				rect.put ("x", node.rect.getX ());
+				rect.put ("y", node.rect.getY ());
+				rect.put ("width", node.rect.getWidth ());
+				rect.put ("height", node.rect.getHeight ());
+				return rect;
+			case "/location":
+				final Map <String, Object> location = new LinkedHashMap <> ();
+				location.put ("x", node.rect.getX ());
+				location.put ("y", node.rect.getY ());
+				return location;
+			case "/size":
+				final Map <String, Object> size = new LinkedHashMap <> ();
+				size.put ("width", node.rect.getWidth ());
+				size.put ("height", node.rect.getHeight ());
+				return size;
+			case "/clear":
+				node.text = "";
+				return null;
+			case "/value":
+				final Object keys = body.get ("value");
+				if (keys instanceof List) {
+					for (final Object key : (List <?>) keys) {
+						node.text += key;
+					}
+				}
+				return null;
+			default:
+				return null;
+		}
+	}
+
+	private Map <String, Object> capabilities () {
+		final Map <String, Object> capabilities = new LinkedHashMap <> ();
+		capabilities.put ("platformName", "Android");
+		capabilities.put ("automationName", "Appium");
+		return capabilities;
+	}
+
+	private List <Map <String, Object>> find (final Node context, final Map <?, ?> body) {
+		final List <Map <String, Object>> found = new ArrayList <> ();
+		synchronized (this.nodes) {
+			for (final Node node : this.nodes) {
+				if (node.using.equals (body.get ("using")) && node.value.equals (body.get ("value"))
+						&& (context == null || node.under (context))) {
+					found.add (element (node));
+				}
+			}
+		}
+		return found;
+	}
+
+	private void handle (final HttpExchange exchange) throws IOException {
+		final String method = exchange.getRequestMethod ();
+		final String path = exchange.getRequestURI ()
+			.getPath ();
+		final Map <?, ?> body = "POST".equals (method)
+				? GSON.fromJson (new InputStreamReader (exchange.getRequestBody (), StandardCharsets.UTF_8), Map.class)
+				: null;
+		final Map <String, Object> response = new LinkedHashMap <> ();
+		response.put ("status", 0);
+		if (path.endsWith ("/status")) {
+			response.put ("value", new LinkedHashMap <> ());
+		}
+		else if (path.endsWith ("/session")) {
+			this.startingMax.accumulateAndGet (this.starting.incrementAndGet (), Math::max);
+			pause (this.sessionDelay);
+			this.starting.decrementAndGet ();
+			if (this.failSessions) {
+				response.put ("status", 33);
+				response.put ("value", map ("message", "Session not created."));
+			}
+			else {
+				response.put ("sessionId", "session-" + this.sessions.incrementAndGet ());
+				response.put ("value", capabilities ());
+			}
+		}
+		else {
+			final Matcher matcher = COMMAND.matcher (path);
+			final String command = matcher.matches () && matcher.group (1) != null ? matcher.group (1) : "/";
+			if (!"/".equals (command) || !"GET".equals (method)) {
+				this.commands.add (method + " " + command);
+			}
+			final Object value = command (method, command, body == null ? Collections.emptyMap () : body);
+			if (value == null && ELEMENT.matcher (command)
+				.matches () && node (command.split ("/") [2]) == null) {
+				response.put ("status", 10);
+				response.put ("value", map ("message", "Stale element."));
+			}
+			else if ("/actions".equals (command)) {
+				response.put ("status", 9);
+				response.put ("value", map ("message", "Unknown command."));
+			}
+			else {
+				response.put ("value", value);
+			}
+		}
+		final byte [] bytes = GSON.toJson (response)
+			.getBytes (StandardCharsets.UTF_8);
+		exchange.getResponseHeaders ()
+			.set ("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders (200, bytes.length);
+		try (OutputStream out = exchange.getResponseBody ()) {
+			out.write (bytes);
+		}
+	}
+
+	private Node node (final String id) {
+		synchronized (this.nodes) {
+			for (final Node node : this.nodes) {
+				if (node.id.equals (id)) {
+					return node;
+				}
+			}
+		}
+		return null;
+	}
+
+	private void pause (final long millis) {
+		try {
+			Thread.sleep (millis);
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread ()
+				.interrupt ();
+		}
+	}
+
+	private String source () {
+		synchronized (this.sources) {
+			return this.sources.size () > 1 ? this.sources.remove (0) : this.sources.get (0);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.config.PlatformType;
+
+import io.appium.java_client.MobileBy;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:47:07 PM
+ */
+public class LocatorCompilerTest {
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:07 PM
+	 */
+	@Test
+	public void testAndroidAttributes () {
+		final By locator = By.xpath ("//android.widget.Button[@text='OK']");
+		final By expected = MobileBy
+			.AndroidUIAutomator ("new UiSelector().className(\"android.widget.Button\").text(\"OK\")");
+
+		assertThat (LocatorCompiler.compile (locator, PlatformType.ANDROID)).isEqualTo (expected);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:07 PM
+	 */
+	@Test
+	public void testAndroidFunctionsAndInstance () {
+		final By locator = By.xpath ("(//*[contains(@content-desc,'menu') and @resource-id='com.app:id/nav'])[2]");
+		final By expected = MobileBy.AndroidUIAutomator (
+				"new UiSelector().descriptionContains(\"menu\").resourceId(\"com.app:id/nav\").instance(1)");
+
+		assertThat (LocatorCompiler.compile (locator, PlatformType.ANDROID)).isEqualTo (expected);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:07 PM
+	 */
+	@Test
+	public void testCompiledOnce () {
+		final By locator = By.xpath ("//android.widget.CheckBox[starts-with(@text,'Remember')]");
+		final By first = LocatorCompiler.compile (locator, PlatformType.ANDROID);
+
+		assertThat (LocatorCompiler.compile (By.xpath ("//android.widget.CheckBox[starts-with(@text,'Remember')]"),
+				PlatformType.ANDROID)).isSameAs (first);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:07 PM
+	 */
+	@Test
+	public void testIosClassChain () {
+		final By locator = By.xpath ("(//XCUIElementTypeCell[@label='Row'])[3]");
+		final By expected = MobileBy.iOSClassChain ("**/XCUIElementTypeCell[`label == \"Row\"`][3]");
+
+		assertThat (LocatorCompiler.compile (locator, PlatformType.IOS)).isEqualTo (expected);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:07 PM
+	 */
+	@Test
+	public void testIosPredicate () {
+		final By locator = By.xpath ("//XCUIElementTypeButton[@name='Log \"In\"'][contains(@label,'Log')]");
+		final By expected = MobileBy.iOSNsPredicateString (
+				"type == \"XCUIElementTypeButton\" AND name == \"Log \\\"In\\\"\" AND label CONTAINS \"Log\"");
+
+		assertThat (LocatorCompiler.compile (locator, PlatformType.IOS)).isEqualTo (expected);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:07 PM
+	 */
+	@Test
+	public void testNonXpathUnchanged () {
+		final By locator = By.id ("com.app:id/login");
+
+		assertThat (LocatorCompiler.compile (locator, PlatformType.ANDROID)).isSameAs (locator);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:07 PM
+	 */
+	@Test
+	public void testRejectedUsesOriginal () {
+		final By locator = By.xpath ("//android.widget.EditText[@text='Name']");
+		LocatorCompiler.compile (locator, PlatformType.ANDROID);
+		LocatorCompiler.reject (locator, PlatformType.ANDROID);
+
+		assertThat (LocatorCompiler.compile (locator, PlatformType.ANDROID)).isSameAs (locator);
+		assertThat (LocatorCompiler.untranslated ()).contains (PlatformType.ANDROID + "|" + locator);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:47:07 PM
+	 */
+	@Test
+	public void testUntranslatable () {
+		final By partialId = By.xpath ("//*[contains(@resource-id,'login')]");
+		final By nested = By.xpath ("//android.widget.ListView/android.widget.TextView");
+		final By windows = By.xpath ("//Button[@Name='OK']");
+
+		assertThat (LocatorCompiler.compile (partialId, PlatformType.ANDROID)).isSameAs (partialId);
+		assertThat (LocatorCompiler.compile (nested, PlatformType.ANDROID)).isSameAs (nested);
+		assertThat (LocatorCompiler.compile (windows, PlatformType.WINDOWS)).isSameAs (windows);
+		assertThat (LocatorCompiler.untranslated ()).containsAllOf (PlatformType.ANDROID + "|" + partialId,
+				PlatformType.ANDROID + "|" + nested, PlatformType.WINDOWS + "|" + windows);
+	}
+}
\ No newline at end of file
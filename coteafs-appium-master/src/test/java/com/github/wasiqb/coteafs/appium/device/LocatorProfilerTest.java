@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 12:47:24 AM
+ */
+public class LocatorProfilerTest {
+	private static void lookup (final String element, final long millis, final boolean found)
+			throws InterruptedException {
+		final LocatorProfiler.Sample sample = LocatorProfiler.start (LocatorProfilerTest.class, element,
+				By.id (element));
+		Thread.sleep (millis);
+		sample.poll (0, found ? 1 : 0);
+		LocatorProfiler.record (sample, found);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:47:24 AM
+	 */
+	@AfterMethod
+	@BeforeMethod
+	public void reset () {
+		LocatorProfiler.reset ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:47:24 AM
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testFailuresRankedSeparately () throws InterruptedException {
+		lookup ("missing", 200, false);
+		lookup ("slow", 50, true);
+		lookup ("slow", 10, false);
+		lookup ("fast", 0, true);
+
+		final String report = LocatorProfiler.report (10);
+		final String slowest = report.substring (0, report.indexOf ("failing locators"));
+		final String failing = report.substring (report.indexOf ("failing locators"));
+
+		assertThat (slowest).doesNotContain ("#missing");
+		assertThat (slowest.indexOf ("#slow")).isLessThan (slowest.indexOf ("#fast"));
+		assertThat (failing).contains ("#missing");
+		assertThat (failing).contains ("#slow");
+		assertThat (failing).doesNotContain ("#fast");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:47:24 AM
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testNoFailingSectionWithoutFailures () throws InterruptedException {
+		lookup ("fast", 0, true);
+
+		assertThat (LocatorProfiler.isEmpty ()).isFalse ();
+		assertThat (LocatorProfiler.report (10)).doesNotContain ("failing locators");
+	}
+}
\ No newline at end of file
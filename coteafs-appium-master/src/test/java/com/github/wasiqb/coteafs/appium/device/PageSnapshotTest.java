@@ -0,0 +1,219 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Rectangle;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.config.PlatformType;
+import com.github.wasiqb.coteafs.appium.device.PageSnapshot.Node;
+
+import io.appium.java_client.MobileBy;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:43:41 PM
+ */
+public class PageSnapshotTest {
+	private static final String	ANDROID_SOURCE	= "<hierarchy>"
+			+ "<android.widget.FrameLayout class=\"android.widget.FrameLayout\" bounds=\"[0,0][1080,1920]\">"
+			+ "<android.widget.ListView class=\"android.widget.ListView\" resource-id=\"com.app:id/list\">"
+			+ "<android.widget.TextView class=\"android.widget.TextView\" text=\"One\" bounds=\"[0,100][1080,200]\"/>"
+			+ "<android.widget.TextView class=\"android.widget.TextView\" text=\"Two\" displayed=\"false\"/>"
+			+ "</android.widget.ListView>"
+			+ "<android.widget.Button class=\"android.widget.Button\" text=\"OK\" content-desc=\"ok\""
+			+ " enabled=\"false\" selected=\"true\"/>" + "</android.widget.FrameLayout>" + "</hierarchy>";
+	private static final String	IOS_SOURCE		= "<AppiumAUT>"
+			+ "<XCUIElementTypeApplication type=\"XCUIElementTypeApplication\" name=\"App\">"
+			+ "<XCUIElementTypeButton type=\"XCUIElementTypeButton\" name=\"login\" label=\"Login\""
+			+ " visible=\"true\" x=\"10\" y=\"20\" width=\"100\" height=\"40\"/>"
+			+ "<XCUIElementTypeTextField type=\"XCUIElementTypeTextField\" name=\"user\" value=\"wasiq\""
+			+ " label=\"User\" visible=\"false\"/>" + "</XCUIElementTypeApplication>" + "</AppiumAUT>";
+
+	private PageSnapshot	android;
+	private PageSnapshot	ios;
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @throws XMLStreamException
+	 */
+	@BeforeClass
+	public void setupSnapshots () throws XMLStreamException {
+		this.android = PageSnapshot.parse (ANDROID_SOURCE, PlatformType.ANDROID);
+		this.ios = PageSnapshot.parse (IOS_SOURCE, PlatformType.IOS);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 */
+	@Test
+	public void testAndroidAttributes () {
+		final Node button = single (this.android, null, MobileBy.AccessibilityId ("ok"));
+
+		assertThat (this.android.text (button)).isEqualTo ("OK");
+		assertThat (this.android.enabled (button)).isFalse ();
+		assertThat (this.android.selected (button)).isTrue ();
+		assertThat (this.android.visible (button)).isTrue ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:40:03 AM
+	 */
+	@Test
+	public void testAndroidRects () {
+		final Node one = single (this.android, null, By.xpath ("//android.widget.TextView[@text='One']"));
+		final Node button = single (this.android, null, MobileBy.AccessibilityId ("ok"));
+
+		assertThat (this.android.rect (one)).isEqualTo (new Rectangle (0, 100, 100, 1080));
+		assertThat (this.android.rect (button)).isNull ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 */
+	@Test
+	public void testClassNameAndId () {
+		assertThat (this.android.find (null, By.className ("android.widget.TextView"))).hasSize (2);
+		assertThat (this.android.find (null, By.id ("list"))).hasSize (1);
+		assertThat (this.android.find (null, By.id ("com.app:id/list"))).hasSize (1);
+		assertThat (this.android.find (null, By.id ("missing"))).isEmpty ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 */
+	@Test
+	public void testContextRelativeXpath () {
+		final Node list = single (this.android, null, By.id ("list"));
+
+		assertThat (this.android.find (list, By.xpath (".//android.widget.TextView"))).hasSize (2);
+		assertThat (this.android.find (list, By.xpath (".//android.widget.Button"))).isEmpty ();
+		assertThat (this.android.find (list, By.xpath ("//android.widget.Button"))).hasSize (1);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:16:37 AM
+	 */
+	@Test
+	public void testFingerprint () {
+		assertThat (this.android.fingerprint ()).containsExactly ("android.widget.TextView:One",
+				"android.widget.TextView:Two", "android.widget.Button:OK");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 */
+	@Test
+	public void testIosAttributes () {
+		final Node login = single (this.ios, null, MobileBy.AccessibilityId ("login"));
+		final Node user = single (this.ios, null, By.id ("user"));
+
+		assertThat (this.ios.text (login)).isEqualTo ("Login");
+		assertThat (this.ios.text (user)).isEqualTo ("wasiq");
+		assertThat (this.ios.visible (login)).isTrue ();
+		assertThat (this.ios.visible (user)).isFalse ();
+		assertThat (this.ios.enabled (login)).isNull ();
+		assertThat (this.ios.find (null, By.className ("XCUIElementTypeTextField"))).hasSize (1);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:40:03 AM
+	 */
+	@Test
+	public void testIosRect () {
+		final Node login = single (this.ios, null, MobileBy.AccessibilityId ("login"));
+
+		assertThat (this.ios.rect (login)).isEqualTo (new Rectangle (10, 20, 40, 100));
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 */
+	@Test
+	public void testSizeCountsDocumentNode () {
+		assertThat (this.android.size ()).isEqualTo (7);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 */
+	@Test
+	public void testUnsupportedLocators () {
+		assertThat (this.android.find (null, By.xpath ("//android.widget.TextView/.."))).isNull ();
+		assertThat (this.android.find (null, By.name ("OK"))).isNull ();
+		assertThat (this.android.find (null, By.xpath ("//*[text()='One']"))).isNull ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 * @throws XMLStreamException
+	 */
+	@Test
+	public void testWindowsNotEvaluated () throws XMLStreamException {
+		final PageSnapshot windows = PageSnapshot.parse (ANDROID_SOURCE, PlatformType.WINDOWS);
+
+		assertThat (windows.find (null, By.id ("list"))).isNull ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:43:41 PM
+	 */
+	@Test
+	public void testXpathPredicates () {
+		assertThat (texts (By.xpath ("//android.widget.TextView[2]"))).isEqualTo ("Two");
+		assertThat (texts (By.xpath ("//*[contains(@text,'w')]"))).isEqualTo ("Two");
+		assertThat (texts (By.xpath ("//*[starts-with(@text,'O')]"))).isEqualTo ("One,OK");
+		assertThat (texts (By.xpath ("//*[@class='android.widget.Button' and @enabled='false']"))).isEqualTo ("OK");
+		assertThat (texts (By.xpath ("/hierarchy/*/*/android.widget.TextView[1]"))).isEqualTo ("One");
+	}
+
+	private Node single (final PageSnapshot snapshot, final Node context, final By locator) {
+		final List <Node> nodes = snapshot.find (context, locator);
+		assertThat (nodes).hasSize (1);
+		return nodes.get (0);
+	}
+
+	private String texts (final By locator) {
+		final StringBuilder texts = new StringBuilder ();
+		for (final Node node : this.android.find (null, locator)) {
+			if (texts.length () > 0) {
+				texts.append (",");
+			}
+			texts.append (this.android.text (node));
+		}
+		return texts.toString ();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.android.AndroidActivity;
+import com.github.wasiqb.coteafs.appium.android.AndroidDevice;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 1:00:48 AM
+ */
+public class ParentChainTest {
+	private static final class NestedActivity extends AndroidActivity {
+		private NestedActivity (final AndroidDevice device) {
+			super (device);
+		}
+
+		@Override
+		protected DeviceElement prepare () {
+			final DeviceElement main = DeviceElement.create ("Main")
+				.using (By.id ("main"));
+			final DeviceElement list = DeviceElement.create ("List")
+				.using (By.id ("list"))
+				.parent (main);
+			DeviceElement.create ("Item")
+				.using (By.id ("item"))
+				.parent (list);
+			DeviceElement.create ("Title")
+				.using (By.id ("title"))
+				.parent (list);
+			return main;
+		}
+	}
+
+	private NestedActivity			activity;
+	private AndroidDevice			device;
+	private FakeAppiumServer		fake;
+	private FakeAppiumServer.Node	list;
+	private FakeAppiumServer.Node	main;
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:00:48 AM
+	 * @throws IOException
+	 */
+	@BeforeMethod
+	public void setup () throws IOException {
+		this.fake = new FakeAppiumServer ();
+		this.main = this.fake.add ("id", "main");
+		this.list = this.fake.add (this.main, "id", "list");
+		this.fake.add (this.list, "id", "item")
+			.text ("Item");
+		this.fake.add (this.list, "id", "title")
+			.text ("Title");
+		this.device = new AndroidDevice (this.fake.appiumServer (), "unit");
+		this.device.getSetting ()
+			.getPlayback ()
+			.setCacheElements (false);
+		this.device.start ();
+		this.activity = new NestedActivity (this.device);
+		this.fake.reset ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:00:48 AM
+	 */
+	@AfterMethod
+	public void teardown () {
+		this.device.stop ();
+		this.fake.stop ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:00:48 AM
+	 */
+	@Test
+	public void testAncestorsFoundAgainOnScreenChange () {
+		this.activity.getElement ("Item");
+		this.device.screenChanged ();
+		this.activity.getElement ("Title");
+
+		assertThat (this.fake.count ("POST /elements")).isEqualTo (2);
+		assertThat (this.fake.count ("POST /element/" + this.main.id () + "/elements")).isEqualTo (2);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:00:48 AM
+	 */
+	@Test
+	public void testAncestorsFoundOnce () {
+		this.activity.getElement ("Item");
+		this.activity.getElement ("Title");
+		this.activity.getElement ("Item");
+
+		assertThat (this.fake.count ("POST /elements")).isEqualTo (1);
+		assertThat (this.fake.count ("POST /element/" + this.main.id () + "/elements")).isEqualTo (1);
+		assertThat (this.fake.count ("POST /element/" + this.list.id () + "/elements")).isEqualTo (3);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:00:48 AM
+	 */
+	@Test
+	public void testStaleAncestorFoundAgain () {
+		this.activity.getElement ("Item");
+		this.fake.remove (this.list);
+		final FakeAppiumServer.Node newList = this.fake.add (this.main, "id", "list");
+		this.fake.add (newList, "id", "title")
+			.text ("New Title");
+
+		assertThat (this.activity.onElement ("Title")
+			.text ()).isEqualTo ("New Title");
+		assertThat (this.fake.count ("POST /elements")).isEqualTo (2);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.android.AndroidActivity;
+import com.github.wasiqb.coteafs.appium.android.AndroidDevice;
+import com.github.wasiqb.coteafs.appium.error.DeviceElementNotFoundError;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 1:16:47 AM
+ */
+public class ScrollSearchTest {
+	private static final class ListActivity extends AndroidActivity {
+		private ListActivity (final AndroidDevice device) {
+			super (device);
+		}
+
+		@Override
+		protected DeviceElement prepare () {
+			final DeviceElement main = DeviceElement.create ("Main")
+				.using (By.id ("main"));
+			DeviceElement.create ("Target")
+				.using (By.id ("target"))
+				.parent (main);
+			return main;
+		}
+	}
+
+	private static String page (final String... texts) {
+		final StringBuilder source = new StringBuilder (
+				"<hierarchy><android.widget.ListView resource-id=\"com.unit.app:id/main\">");
+		for (final String text : texts) {
+			source.append (String.format ("<android.widget.TextView resource-id=\"com.unit.app:id/%s\" text=\"%s\"/>",
+					text.toLowerCase (), text));
+		}
+		return source.append ("</android.widget.ListView></hierarchy>")
+			.toString ();
+	}
+
+	private ListActivity		activity;
+	private AndroidDevice		device;
+	private FakeAppiumServer	fake;
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:16:47 AM
+	 * @throws IOException
+	 */
+	@BeforeMethod
+	public void setup () throws IOException {
+		this.fake = new FakeAppiumServer ();
+		this.fake.add (this.fake.add ("id", "main"), "id", "target")
+			.text ("Target");
+		this.device = new AndroidDevice (this.fake.appiumServer (), "unit");
+		this.device.getSetting ()
+			.getPlayback ()
+			.setAutoDelay (false);
+		this.device.start ();
+		this.activity = new ListActivity (this.device);
+		this.fake.reset ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:16:47 AM
+	 */
+	@AfterMethod
+	public void teardown () {
+		this.device.stop ();
+		this.fake.stop ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:16:47 AM
+	 */
+	@Test
+	public void testFoundAfterSwipe () {
+		this.fake.source (page ("One", "Two"), page ("Three", "Target"));
+
+		assertThat (this.activity.scrollTo ("Target", SwipeDirection.UP)
+			.text ()).isEqualTo ("Target");
+		assertThat (this.fake.count ("POST /touch/perform")).isEqualTo (1);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:16:47 AM
+	 */
+	@Test
+	public void testStopsAtEndOfContent () {
+		this.fake.source (page ("One", "Two"), page ("Three", "Four"));
+
+		try {
+			this.activity.scrollTo ("Target", SwipeDirection.UP);
+			throw new IllegalStateException ("Element was found.");
+		}
+		catch (final DeviceElementNotFoundError e) {
+			assertThat (e.getMessage ()).contains ("[Target] not found after scrolling to end");
+		}
+		assertThat (this.fake.count ("POST /touch/perform")).isEqualTo (2);
+	}
+}
\ No newline at end of file
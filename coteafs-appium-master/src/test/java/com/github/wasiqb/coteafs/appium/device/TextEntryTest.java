@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.github.wasiqb.coteafs.appium.config.PlatformType.ANDROID;
+import static com.github.wasiqb.coteafs.appium.config.PlatformType.IOS;
+import static com.google.common.truth.Truth.assertThat;
+
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.config.TextEntryStrategy;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:54:46 PM
+ */
+public class TextEntryTest {
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:54:46 PM
+	 */
+	@Test
+	public void testAutoSelection () {
+		assertThat (TextEntry.select (TextEntryStrategy.AUTO, ANDROID, 0)).isEqualTo (TextEntryStrategy.SEND_KEYS);
+		assertThat (TextEntry.select (TextEntryStrategy.AUTO, IOS, 0)).isEqualTo (TextEntryStrategy.SEND_KEYS);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:54:46 PM
+	 */
+	@Test
+	public void testAutoSelectionWithDelay () {
+		assertThat (TextEntry.select (TextEntryStrategy.AUTO, ANDROID, 50)).isEqualTo (TextEntryStrategy.KEYS);
+		assertThat (TextEntry.select (TextEntryStrategy.AUTO, IOS, 50)).isEqualTo (TextEntryStrategy.KEYS);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:54:46 PM
+	 */
+	@Test
+	public void testConfiguredSelection () {
+		assertThat (TextEntry.select (TextEntryStrategy.ADB, ANDROID, 0)).isEqualTo (TextEntryStrategy.ADB);
+		assertThat (TextEntry.select (TextEntryStrategy.ADB, IOS, 0)).isEqualTo (TextEntryStrategy.SEND_KEYS);
+		assertThat (TextEntry.select (TextEntryStrategy.SET_VALUE, IOS, 50)).isEqualTo (TextEntryStrategy.SET_VALUE);
+		assertThat (TextEntry.select (TextEntryStrategy.SEND_KEYS, ANDROID, 0)).isEqualTo (TextEntryStrategy.SEND_KEYS);
+		assertThat (TextEntry.select (TextEntryStrategy.SET_VALUE, ANDROID, 0)).isEqualTo (TextEntryStrategy.SET_VALUE);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:54:46 PM
+	 */
+	@Test
+	public void testEscape () {
+		assertThat (TextEntry.escape ("hello")).isEqualTo ("hello");
+		assertThat (TextEntry.escape ("hello world")).isEqualTo ("hello%sworld");
+		assertThat (TextEntry.escape ("it's $5 (a|b);")).isEqualTo ("it\\'s%s\\$5%s\\(a\\|b\\)\\;");
+		assertThat (TextEntry.escape ("<a&b>*~`\"\\")).isEqualTo ("\\<a\\&b\\>\\*\\~\\`\\\"\\\\");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.android.AndroidDevice;
+import com.github.wasiqb.coteafs.appium.config.PlaybackSetting;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 1:13:17 AM
+ */
+public class UiIdleTest {
+	private AndroidDevice		device;
+	private FakeAppiumServer	fake;
+	private PlaybackSetting		setting;
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:13:17 AM
+	 * @throws IOException
+	 */
+	@BeforeMethod
+	public void setup () throws IOException {
+		this.fake = new FakeAppiumServer ();
+		this.device = new AndroidDevice (this.fake.appiumServer (), "unit");
+		this.setting = this.device.getSetting ()
+			.getPlayback ();
+		this.setting.setAutoDelay (true);
+		this.device.start ();
+		this.fake.reset ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:13:17 AM
+	 */
+	@AfterMethod
+	public void teardown () {
+		this.device.stop ();
+		this.fake.stop ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:13:17 AM
+	 */
+	@Test
+	public void testBoundedWhenNeverIdle () {
+		final String [] pages = new String [1000];
+		for (int i = 0; i < pages.length; i++) {
+			pages [i] = "<hierarchy index=\"" + i + "\"/>";
+		}
+		this.fake.source (pages);
+		final long start = System.currentTimeMillis ();
+
+		UiIdle.await (this.device.getDriver (), this.setting, 200);
+
+		assertThat (System.currentTimeMillis () - start).isAtLeast (200L);
+		assertThat (this.fake.count ("GET /source")).isGreaterThan (2);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:13:17 AM
+	 */
+	@Test
+	public void testNoPollingWithFixedDelays () {
+		this.setting.setAutoDelay (false);
+
+		UiIdle.await (this.device.getDriver (), this.setting, 5000);
+
+		assertThat (this.fake.count ("GET /source")).isEqualTo (0);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:13:17 AM
+	 */
+	@Test
+	public void testPolledUntilSourceStable () {
+		this.fake.source ("<hierarchy index=\"0\"/>", "<hierarchy index=\"1\"/>", "<hierarchy index=\"2\"/>");
+		final long saved = UiIdle.getTimeSaved ();
+
+		UiIdle.await (this.device.getDriver (), this.setting, 5000);
+
+		assertThat (this.fake.count ("GET /source")).isEqualTo (4);
+		assertThat (UiIdle.getTimeSaved () - saved).isGreaterThan (4000L);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.device;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.android.AndroidActivity;
+import com.github.wasiqb.coteafs.appium.android.AndroidDevice;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 1:09:54 AM
+ */
+public class WaitForAnyTest {
+	private static final class AlertActivity extends AndroidActivity {
+		private AlertActivity (final AndroidDevice device) {
+			super (device);
+		}
+
+		@Override
+		protected DeviceElement prepare () {
+			final DeviceElement alert = DeviceElement.create ("Alert")
+				.using (By.id ("alert"));
+			DeviceElement.create ("Dismiss")
+				.using (By.id ("dismiss"))
+				.parent (alert);
+			return alert;
+		}
+	}
+
+	private static final class HomeActivity extends AndroidActivity {
+		private HomeActivity (final AndroidDevice device) {
+			super (device);
+		}
+
+		@Override
+		protected DeviceElement prepare () {
+			final DeviceElement main = DeviceElement.create ("Main")
+				.using (By.id ("main"));
+			DeviceElement.create ("Welcome")
+				.using (By.id ("welcome"))
+				.parent (main);
+			return main;
+		}
+	}
+
+	private AlertActivity		alert;
+	private AndroidDevice		device;
+	private FakeAppiumServer	fake;
+	private HomeActivity		home;
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:09:54 AM
+	 * @throws IOException
+	 */
+	@BeforeMethod
+	public void setup () throws IOException {
+		this.fake = new FakeAppiumServer ();
+		this.fake.add (this.fake.add ("id", "main"), "id", "welcome");
+		this.device = new AndroidDevice (this.fake.appiumServer (), "unit");
+		this.device.getSetting ()
+			.getPlayback ()
+			.setWaitForElementUntil (10);
+		this.device.start ();
+		this.alert = new AlertActivity (this.device);
+		this.home = new HomeActivity (this.device);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:09:54 AM
+	 */
+	@AfterMethod
+	public void teardown () {
+		this.device.stop ();
+		this.fake.stop ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:09:54 AM
+	 */
+	@Test (timeOut = 5000)
+	public void testFirstPresentElementReturned () {
+		assertThat (this.home.waitForAny ("Main", "Welcome")).isEqualTo ("Main");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:09:54 AM
+	 */
+	@Test (timeOut = 5000)
+	public void testMissingElementNotWaitedFor () {
+		final ElementTarget match = DeviceActivity.waitForAny (ElementTarget.of (this.alert, "Dismiss"),
+				ElementTarget.of (this.home, "Welcome"));
+
+		assertThat (match.activity ()).isSameAs (this.home);
+		assertThat (match.name ()).isEqualTo ("Welcome");
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 1:09:54 AM
+	 */
+	@Test
+	public void testNullWhenNoneAppears () {
+		this.device.getSetting ()
+			.getPlayback ()
+			.setWaitForElementUntil (1);
+		final AlertActivity activity = new AlertActivity (this.device);
+
+		assertThat (activity.waitForAny ("Alert", "Dismiss")).isNull ();
+	}
+}
\ No newline at end of file
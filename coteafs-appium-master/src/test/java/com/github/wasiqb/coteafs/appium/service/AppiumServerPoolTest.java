@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.service;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.testng.annotations.Test;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:36:41 PM
+ */
+public class AppiumServerPoolTest {
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 11:07:57 PM
+	 */
+	@Test
+	public void testHealthyServerPreferred () {
+		assertThat (AppiumServerPool.isBetter (true, 100, false, 1)).isTrue ();
+		assertThat (AppiumServerPool.isBetter (false, 1, true, 100)).isFalse ();
+		assertThat (AppiumServerPool.isBetter (false, 1, false, 100)).isTrue ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:41 PM
+	 */
+	@Test
+	public void testLatencyMovingAverage () {
+		final double first = AppiumServerPool.latency (0, 100);
+		final double second = AppiumServerPool.latency (first, 100);
+
+		assertThat (first).isWithin (1e-9)
+			.of (30);
+		assertThat (second).isWithin (1e-9)
+			.of (51);
+		assertThat (AppiumServerPool.latency (second, 10)).isLessThan (second);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 11:07:57 PM
+	 */
+	@Test
+	public void testLowerScoreWins () {
+		assertThat (AppiumServerPool.isBetter (true, 1, true, 2)).isTrue ();
+		assertThat (AppiumServerPool.isBetter (true, 2, true, 2)).isFalse ();
+		assertThat (AppiumServerPool.isBetter (true, 3, true, 2)).isFalse ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:36:41 PM
+	 */
+	@Test
+	public void testScoreWeighsLoadAndLatency () {
+		assertThat (AppiumServerPool.score (0, 0)).isWithin (1e-9)
+			.of (1);
+		assertThat (AppiumServerPool.score (0, 100)).isLessThan (AppiumServerPool.score (1, 100));
+		assertThat (AppiumServerPool.score (1, 50)).isLessThan (AppiumServerPool.score (0, 500));
+	}
+}
\ No newline at end of file
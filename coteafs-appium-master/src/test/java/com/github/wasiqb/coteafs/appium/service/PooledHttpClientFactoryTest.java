@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.service;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.config.HttpClientSetting;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 12:45:21 AM
+ */
+public class PooledHttpClientFactoryTest {
+	private CountDownLatch		blocked;
+	private ExecutorService		executor;
+	private CountDownLatch		released;
+	private HttpServer			server;
+	private HttpClientSetting	setting;
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:45:21 AM
+	 * @throws IOException
+	 */
+	@BeforeMethod
+	public void setup () throws IOException {
+		this.blocked = new CountDownLatch (1);
+		this.released = new CountDownLatch (1);
+		this.executor = Executors.newCachedThreadPool ();
+		this.server = HttpServer.create (new InetSocketAddress ("127.0.0.1", 0), 0);
+		this.server.setExecutor (this.executor);
+		this.server.createContext ("/wd/hub/session", exchange -> {
+			pause (1500);
+			exchange.sendResponseHeaders (200, -1);
+			exchange.close ();
+		});
+		this.server.createContext ("/wd/hub/slow", exchange -> {
+			pause (1500);
+			exchange.sendResponseHeaders (200, -1);
+			exchange.close ();
+		});
+		this.server.createContext ("/wd/hub/blocked", exchange -> {
+			this.blocked.countDown ();
+			try {
+				this.released.await ();
+			}
+			catch (final InterruptedException e) {
+				Thread.currentThread ()
+					.interrupt ();
+			}
+			exchange.sendResponseHeaders (200, -1);
+			exchange.close ();
+		});
+		this.server.start ();
+		this.setting = new HttpClientSetting ();
+		this.setting.setConnectTimeout (1);
+		this.setting.setReadTimeout (1);
+		this.setting.setSessionTimeout (5);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:45:21 AM
+	 */
+	@AfterMethod
+	public void teardown () {
+		this.released.countDown ();
+		this.server.stop (0);
+		this.executor.shutdownNow ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:45:21 AM
+	 * @throws Exception
+	 */
+	@Test (timeOut = 20000)
+	public void testConnectionsLimited () throws Exception {
+		this.setting.setMaxConnections (1);
+		this.setting.setReadTimeout (10);
+		final HttpClient client = client ();
+		final Future <Integer> first = this.executor.submit ( () -> client
+			.execute (new HttpRequest (HttpMethod.GET, "/blocked"))
+			.getStatus ());
+		this.blocked.await ();
+		try {
+			client.execute (new HttpRequest (HttpMethod.GET, "/session"));
+			throw new AssertionError ("Second connection was opened.");
+		}
+		catch (final SocketTimeoutException e) {
+			assertThat (e.getMessage ()).contains ("No free HTTP connection");
+		}
+		this.released.countDown ();
+
+		assertThat (first.get (5, TimeUnit.SECONDS)).isEqualTo (200);
+		assertThat (client.execute (new HttpRequest (HttpMethod.GET, "/session"))
+			.getStatus ()).isEqualTo (200);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:45:21 AM
+	 * @throws IOException
+	 */
+	@Test
+	public void testNewSessionOutlivesReadTimeout () throws IOException {
+		final HttpClient client = client ();
+
+		assertThat (client.execute (new HttpRequest (HttpMethod.POST, "/session"))
+			.getStatus ()).isEqualTo (200);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:45:21 AM
+	 * @throws IOException
+	 */
+	@Test (expectedExceptions = SocketTimeoutException.class)
+	public void testReadTimeoutApplied () throws IOException {
+		client ().execute (new HttpRequest (HttpMethod.POST, "/slow"));
+	}
+
+	private HttpClient client () throws IOException {
+		final URL url = new URL (String.format ("http://127.0.0.1:%d/wd/hub", this.server.getAddress ()
+			.getPort ()));
+		return new PooledHttpClientFactory (this.setting).createClient (url);
+	}
+
+	private void pause (final long millis) {
+		try {
+			Thread.sleep (millis);
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread ()
+				.interrupt ();
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.service;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.config.ServerSetting;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * @author agent
+ * @since Oct 18, 2026 12:30:28 AM
+ */
+public class ServerHealthMonitorTest {
+	private AtomicInteger		hits;
+	private ServerHealthMonitor	monitor;
+	private HttpServer			server;
+	private ServerSetting		setting;
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:30:28 AM
+	 * @throws IOException
+	 */
+	@BeforeMethod
+	public void setup () throws IOException {
+		this.hits = new AtomicInteger ();
+		this.server = HttpServer.create (new InetSocketAddress ("127.0.0.1", 0), 0);
+		this.server.createContext ("/wd/hub/status", exchange -> {
+			this.hits.incrementAndGet ();
+			exchange.sendResponseHeaders (200, -1);
+			exchange.close ();
+		});
+		this.server.start ();
+		this.setting = new ServerSetting ();
+		this.setting.setHealthCheckInterval (60000);
+		this.setting.setHealthCacheTtl (60000);
+		this.monitor = new ServerHealthMonitor (this::url, this.setting);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:30:28 AM
+	 */
+	@AfterMethod
+	public void teardown () {
+		this.monitor.stop ();
+		this.server.stop (0);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:30:28 AM
+	 */
+	@Test
+	public void testHealthServedFromCache () {
+		this.monitor.start ();
+		assertThat (this.monitor.isHealthy ()).isTrue ();
+		assertThat (this.hits.get ()).isEqualTo (1);
+
+		for (int i = 0; i < 10; i++) {
+			assertThat (this.monitor.isHealthy ()).isTrue ();
+		}
+		assertThat (this.hits.get ()).isEqualTo (1);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:30:28 AM
+	 */
+	@Test
+	public void testNotHealthyBeforeStart () {
+		assertThat (this.monitor.isHealthy ()).isFalse ();
+		assertThat (this.hits.get ()).isEqualTo (0);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:30:28 AM
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testStaleHealthNotTrusted () throws InterruptedException {
+		this.setting.setHealthCacheTtl (50);
+		this.monitor.start ();
+		assertThat (this.monitor.isHealthy ()).isTrue ();
+
+		Thread.sleep (100);
+		assertThat (this.monitor.isHealthy ()).isFalse ();
+		assertThat (this.hits.get ()).isEqualTo (1);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 18, 2026 12:30:28 AM
+	 */
+	@Test
+	public void testStopForgetsHealth () {
+		this.monitor.start ();
+		this.monitor.stop ();
+		assertThat (this.monitor.isHealthy ()).isFalse ();
+	}
+
+	private URL url () {
+		try {
+			return new URL (String.format ("http://127.0.0.1:%d/wd/hub", this.server.getAddress ()
+				.getPort ()));
+		}
+		catch (final MalformedURLException e) {
+			throw new IllegalStateException (e);
+		}
+	}
+}
\ No newline at end of file
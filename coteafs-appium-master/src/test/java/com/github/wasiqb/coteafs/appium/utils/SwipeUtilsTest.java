@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2017, Wasiq Bhamla.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wasiqb.coteafs.appium.utils;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.interactions.Sequence;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.wasiqb.coteafs.appium.config.PlaybackSetting;
+import com.github.wasiqb.coteafs.appium.device.SwipeDirection;
+import com.github.wasiqb.coteafs.appium.device.SwipeStartPosition;
+
+/**
+ * @author agent
+ * @since Oct 17, 2026 10:52:08 PM
+ */
+public class SwipeUtilsTest {
+	private static final Dimension SCREEN = new Dimension (1000, 2000);
+
+	@SuppressWarnings ("unchecked")
+	private static List <Map <String, Object>> actions (final Sequence sequence) {
+		return (List <Map <String, Object>>) sequence.encode ()
+			.get ("actions");
+	}
+
+	private static List <Point> moves (final Sequence sequence) {
+		final List <Point> points = new ArrayList <> ();
+		for (final Map <String, Object> action : actions (sequence)) {
+			if ("pointerMove".equals (action.get ("type"))) {
+				points.add (new Point ((Integer) action.get ("x"), (Integer) action.get ("y")));
+			}
+		}
+		return points;
+	}
+
+	private PlaybackSetting setting;
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 */
+	@BeforeMethod
+	public void setupSetting () {
+		this.setting = new PlaybackSetting ();
+		this.setting.setDelayBeforeSwipeMs (0);
+		this.setting.setDelayAfterSwipeMs (0);
+		this.setting.setSwipeDurationMs (300);
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:52:08 PM
+	 */
+	@Test
+	public void testDragBetweenCenters () {
+		final Sequence drag = SwipeUtils.dragTo (this.setting, new Rectangle (0, 0, 100, 100),
+				new Rectangle (200, 300, 50, 50));
+
+		assertThat (moves (drag)).containsExactly (new Point (50, 50), new Point (225, 325))
+			.inOrder ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:35 PM
+	 */
+	@Test
+	public void testEndClampedToScreen () {
+		assertThat (swipe (SwipeDirection.LEFT, SwipeStartPosition.LEFT, 80, null))
+			.containsExactly (new Point (5, 1000), new Point (0, 1000))
+			.inOrder ();
+		assertThat (swipe (SwipeDirection.RIGHT, SwipeStartPosition.RIGHT, 100, null))
+			.containsExactly (new Point (995, 1000), new Point (999, 1000))
+			.inOrder ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:35 PM
+	 */
+	@Test
+	public void testSwipeOnElement () {
+		final Rectangle element = new Rectangle (100, 200, 100, 400);
+
+		assertThat (swipe (SwipeDirection.RIGHT, SwipeStartPosition.CENTER, 50, element))
+			.containsExactly (new Point (300, 250), new Point (500, 250))
+			.inOrder ();
+		assertThat (swipe (SwipeDirection.RIGHT, SwipeStartPosition.LEFT, 100, element))
+			.containsExactly (new Point (100, 250), new Point (500, 250))
+			.inOrder ();
+		assertThat (swipe (SwipeDirection.UP, SwipeStartPosition.BOTTOM, 50, element))
+			.containsExactly (new Point (300, 300), new Point (300, 250))
+			.inOrder ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:35 PM
+	 */
+	@Test
+	public void testSwipeOnScreen () {
+		assertThat (swipe (SwipeDirection.UP, SwipeStartPosition.CENTER, 50, null))
+			.containsExactly (new Point (500, 1000), new Point (500, 0))
+			.inOrder ();
+		assertThat (swipe (SwipeDirection.DOWN, SwipeStartPosition.TOP, 50, null))
+			.containsExactly (new Point (500, 5), new Point (500, 1005))
+			.inOrder ();
+	}
+
+	/**
+	 * @author agent
+	 * @since Oct 17, 2026 10:53:35 PM
+	 */
+	@Test
+	public void testSwipeTiming () {
+		this.setting.setDelayBeforeSwipeMs (150);
+		final List <Map <String, Object>> actions = actions (SwipeUtils.swipeTo ("finger", SwipeDirection.UP,
+				SwipeStartPosition.CENTER, 50, this.setting, SCREEN, null));
+
+		assertThat (actions).hasSize (5);
+		assertThat (actions.get (2)
+			.get ("type")).isEqualTo ("pause");
+		assertThat (actions.get (2)
+			.get ("duration")).isEqualTo (150L);
+		assertThat (actions.get (3)
+			.get ("duration")).isEqualTo (300L);
+	}
+
+	private List <Point> swipe (final SwipeDirection direction, final SwipeStartPosition start, final int distance,
+			final Rectangle element) {
+		return moves (SwipeUtils.swipeTo ("finger", direction, start, distance, this.setting, SCREEN, element));
+	}
+}
\ No newline at end of file